@@ -0,0 +1,165 @@
+package org.reflections.benchmarks;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
+import org.openjdk.jmh.annotations.*;
+import org.reflections.Reflections;
+import org.reflections.Store;
+import org.reflections.scanners.*;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.reflections.util.Utils.index;
+
+/**
+ * latency of query methods over a store of the given number of entries, with and without class resolution
+ * <p>the store is scanned from a synthetic classpath of hierarchies of the given depth, then padded to the given size with sub type
+ * entries between the generated classes, so that the hierarchies queried grow wider, and every padded entry is reachable
+ * from the queried types and resolves to a class.
+ * each query is measured through its {@link org.reflections.Reflections} method, which resolves the results into classes and members,
+ * and through its name counterpart, such as {@link org.reflections.Reflections#getTypeNamesAnnotatedWith(String)}, which only returns names
+ * <p>run with {@code java -jar target/benchmarks.jar QueryBenchmark -p entries=1000000}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+    @Param({"25000", "100000", "1000000"})
+    public int entries;
+
+    @Param({"5000"})
+    public int classes;
+
+    @Param({"10"})
+    public int depth;
+
+    private File                        root;
+    private Reflections                 reflections;
+    private Store                       store;
+    private Class<?>                    rootType;
+    private Annotation                  annotation;
+    private Class<? extends Annotation> annotationType;
+    private Pattern                     resources = Pattern.compile("C1\\d*\\.xml");
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        root = Files.createTempDirectory("reflections-benchmark").toFile();
+        URL         url         = new SyntheticClasspath(classes, depth, 0.5).writeJar(new File(root, "classes.jar")).toURI().toURL();
+        ClassLoader classLoader = new URLClassLoader(new URL[]{url}, null);
+        reflections = new Reflections(new ConfigurationBuilder().setUrls(url)
+                                                                .addClassLoader(classLoader)
+                                                                .setExpandSuperTypes(false)
+                                                                .setScanners(new SubTypesScanner(false),
+                                                                             new TypeAnnotationsScanner(),
+                                                                             new AnnotationValuesScanner(),
+                                                                             new MethodAnnotationsScanner(),
+                                                                             new ResourcesScanner()));
+        store = reflections.getStore();
+        pad();
+
+        rootType = classLoader.loadClass(SyntheticClasspath.ROOT);
+        annotationType = classLoader.loadClass(SyntheticClasspath.ANNOTATIONS[0]).asSubclass(Annotation.class);
+        for (String type : store.get(index(TypeAnnotationsScanner.class), annotationType.getName())) {
+            annotation = classLoader.loadClass(type).getAnnotation(annotationType);
+            break;
+        }
+
+        //every padded entry resolves, so that both variants of a query compute the same result
+        if (!names(getSubTypesOf()).equals(getSubTypeNamesOf())
+            || !names(getTypesAnnotatedWith()).equals(getTypeNamesAnnotatedWith())) {
+            throw new IllegalStateException("queries resolving classes and their name counterparts compute different results");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ScanBenchmark.delete(root);
+    }
+
+    /**
+     * pads the sub types index until the store has the given number of entries, each entry adding a generated class to the sub types
+     * of the root of another generated hierarchy, as if it implemented more interfaces.
+     * hierarchy roots are not added, so that each entry adds a bounded number of sub type paths rather than multiplying them
+     */
+    private void pad() {
+        int size = 0;
+        for (String index : store.keySet()) {
+            size += store.get(index).size();
+        }
+        Multimap<String, String> subTypes = store.get(index(SubTypesScanner.class));
+        for (int i = 0; (i < classes) && (size < entries); i++) {
+            if (i % depth != 0) {
+                for (int root = 0; (root < classes) && (size < entries); root += depth) {
+                    if (subTypes.put(SyntheticClasspath.className(root), SyntheticClasspath.className(i))) {
+                        size++;
+                    }
+                }
+            }
+        }
+        if (size < entries) {
+            throw new IllegalStateException("could not pad the store to " + entries + " entries, increase classes");
+        }
+    }
+
+    private static Set<String> names(Set<?> types) {
+        return Sets.newHashSet(Iterables.transform(types, type -> ((Class<?>) type).getName()));
+    }
+
+    @Benchmark
+    public Set<?> getSubTypesOf() {
+        return reflections.getSubTypesOf(rootType);
+    }
+
+    @Benchmark
+    public Set<String> getSubTypeNamesOf() {
+        return reflections.getSubTypeNamesOf(rootType.getName());
+    }
+
+    @Benchmark
+    public Set<Class<?>> getTypesAnnotatedWith() {
+        return reflections.getTypesAnnotatedWith(annotationType);
+    }
+
+    @Benchmark
+    public Set<String> getTypeNamesAnnotatedWith() {
+        return reflections.getTypeNamesAnnotatedWith(annotationType.getName());
+    }
+
+    /**
+     * the annotated types whose member values match the annotation, which has no name counterpart
+     */
+    @Benchmark
+    public Set<Class<?>> getTypesAnnotatedWithValues() {
+        return reflections.getTypesAnnotatedWith(annotation, true);
+    }
+
+    @Benchmark
+    public Set<Method> getMethodsAnnotatedWith() {
+        return reflections.getMethodsAnnotatedWith(annotationType);
+    }
+
+    @Benchmark
+    public Set<String> getMethodNamesAnnotatedWith() {
+        return reflections.getMethodNamesAnnotatedWith(annotationType.getName());
+    }
+
+    @Benchmark
+    public Set<String> getResources() {
+        return reflections.getResources(resources);
+    }
+}
@@ -0,0 +1,138 @@
+package org.reflections.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.reflections.Reflections;
+import org.reflections.scanners.*;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.Utils;
+import org.reflections.vfs.Vfs;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * scan throughput over a synthetic classpath split into a number of urls, per scanner combination, per {@link org.reflections.vfs.Vfs.UrlType}
+ * and sequential versus parallel scanning
+ * <p>urls are scanned in parallel with each other, so that comparing the executors is meaningful with several urls.
+ * the parallel executor service is created once per trial, so that its creation and shutdown are not measured.
+ * <p>run with {@code java -jar target/benchmarks.jar ScanBenchmark -p classes=10000 -p urlType=jarFile -p urls=8}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classes;
+
+    @Param({"4"})
+    public int depth;
+
+    @Param({"0.2"})
+    public double annotationDensity;
+
+    /**
+     * types - sub types and type annotations, members - method, field and parameter scanners, all - all scanners
+     */
+    @Param({"types", "members", "all"})
+    public String scanners;
+
+    @Param({"directory", "jarFile", "jarInputStream"})
+    public String urlType;
+
+    /**
+     * the number of directories or jars the classpath is split into
+     */
+    @Param({"1", "8"})
+    public int urls;
+
+    @Param({"sequential", "parallel"})
+    public String executor;
+
+    private File              root;
+    private List<URL>         urlList;
+    private ClassLoader       classLoader;
+    private List<Vfs.UrlType> defaultUrlTypes;
+    private ExecutorService   executorService;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("reflections-benchmark").toFile();
+        SyntheticClasspath classpath = new SyntheticClasspath(classes, depth, annotationDensity);
+        List<File>         files     = "directory".equals(urlType)
+                                       ? classpath.writeDirectories(root, urls)
+                                       : classpath.writeJars(root, urls);
+        urlList = new ArrayList<>();
+        for (File file : files) {
+            urlList.add(file.toURI().toURL());
+        }
+        classLoader = new URLClassLoader(urlList.toArray(new URL[0]), null);
+        if ("parallel".equals(executor)) {
+            executorService = Utils.newParallelExecutor(Runtime.getRuntime().availableProcessors());
+        }
+
+        defaultUrlTypes = new ArrayList<>(Vfs.getDefaultUrlTypes());
+        if ("jarInputStream".equals(urlType)) {
+            Vfs.setDefaultURLTypes(new ArrayList<>(Collections.singletonList(Vfs.DefaultUrlTypes.jarInputStream)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+        Vfs.setDefaultURLTypes(defaultUrlTypes);
+        delete(root);
+    }
+
+    @Benchmark
+    public Reflections scan() {
+        return new Reflections(new ConfigurationBuilder().setUrls(urlList)
+                                                         .addClassLoader(classLoader)
+                                                         .setExpandSuperTypes(false)
+                                                         .setScanners(scanners())
+                                                         .setExecutorService(executorService));
+    }
+
+    private Scanner[] scanners() {
+        switch (scanners) {
+            case "types":
+                return new Scanner[]{new SubTypesScanner(false), new TypeAnnotationsScanner()};
+            case "members":
+                return new Scanner[]{new MethodAnnotationsScanner(), new FieldAnnotationsScanner(), new MethodParameterScanner()};
+            case "all":
+                return new Scanner[]{new SubTypesScanner(false),
+                                     new TypeAnnotationsScanner(),
+                                     new MethodAnnotationsScanner(),
+                                     new FieldAnnotationsScanner(),
+                                     new MethodParameterScanner(),
+                                     new MethodParameterNamesScanner(),
+                                     new MemberUsageScanner(),
+                                     new ResourcesScanner()};
+            default:
+                throw new IllegalArgumentException("unknown scanners " + scanners);
+        }
+    }
+
+    static void delete(File file) throws IOException {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        Files.deleteIfExists(file.toPath());
+    }
+}
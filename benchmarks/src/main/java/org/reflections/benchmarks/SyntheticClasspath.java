@@ -0,0 +1,222 @@
+package org.reflections.benchmarks;
+
+import javassist.*;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.EnumMemberValue;
+import javassist.bytecode.annotation.StringMemberValue;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * generates a synthetic classpath of class files and resources, to be written as a directory or a jar
+ * <p>classes are generated in hierarchies of the given depth, each hierarchy root implementing {@link #ROOT}.
+ * classes, methods and fields are annotated with one of {@link #ANNOTATIONS} according to the given annotation density.
+ * generation is deterministic, so that the same parameters always produce the same classpath.
+ */
+public class SyntheticClasspath {
+
+    public static final String   PACKAGE     = "org.reflections.synthetic";
+    public static final String   ROOT        = PACKAGE + ".Root";
+    public static final String[] ANNOTATIONS = {PACKAGE + ".Marker0", PACKAGE + ".Marker1", PACKAGE + ".Marker2"};
+
+    private static final int CLASSES_PER_PACKAGE  = 100;
+    private static final int METHODS_PER_CLASS    = 4;
+    private static final int FIELDS_PER_CLASS     = 2;
+    private static final int CLASSES_PER_RESOURCE = 10;
+
+    private final int    classes;
+    private final int    depth;
+    private final double annotationDensity;
+
+    public SyntheticClasspath(int classes, int depth, double annotationDensity) {
+        this.classes = classes;
+        this.depth = depth;
+        this.annotationDensity = annotationDensity;
+    }
+
+    /**
+     * the name of the i-th generated class
+     */
+    public static String className(int i) {
+        return PACKAGE + ".p" + (i / CLASSES_PER_PACKAGE) + ".C" + i;
+    }
+
+    /**
+     * writes the classpath into the given directory
+     */
+    public File writeDirectory(File directory) throws IOException {
+        for (Map.Entry<String, byte[]> entry : generate().entrySet()) {
+            File file = new File(directory, entry.getKey());
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.write(file.toPath(), entry.getValue());
+        }
+        return directory;
+    }
+
+    /**
+     * writes the classpath into the given jar file
+     */
+    public File writeJar(File jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jar)))) {
+            for (Map.Entry<String, byte[]> entry : generate().entrySet()) {
+                out.putNextEntry(new JarEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * writes the classpath split into the given number of directories within the given root, such as one per module
+     */
+    public List<File> writeDirectories(File root, int parts) throws IOException {
+        List<File> directories = new ArrayList<>();
+        for (Map<String, byte[]> part : split(parts)) {
+            File directory = new File(root, "classes" + directories.size());
+            for (Map.Entry<String, byte[]> entry : part.entrySet()) {
+                File file = new File(directory, entry.getKey());
+                Files.createDirectories(file.getParentFile().toPath());
+                Files.write(file.toPath(), entry.getValue());
+            }
+            directories.add(directory);
+        }
+        return directories;
+    }
+
+    /**
+     * writes the classpath split into the given number of jar files within the given root, such as one per dependency
+     */
+    public List<File> writeJars(File root, int parts) throws IOException {
+        List<File> jars = new ArrayList<>();
+        for (Map<String, byte[]> part : split(parts)) {
+            File jar = new File(root, "classes" + jars.size() + ".jar");
+            try (JarOutputStream out = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jar)))) {
+                for (Map.Entry<String, byte[]> entry : part.entrySet()) {
+                    out.putNextEntry(new JarEntry(entry.getKey()));
+                    out.write(entry.getValue());
+                    out.closeEntry();
+                }
+            }
+            jars.add(jar);
+        }
+        return jars;
+    }
+
+    /**
+     * splits the generated files into the given number of parts of consecutive files and about the same size
+     */
+    private List<Map<String, byte[]>> split(int parts) throws IOException {
+        Map<String, byte[]>       files  = generate();
+        List<Map<String, byte[]>> result = new ArrayList<>();
+        for (int i = 0; i < parts; i++) {
+            result.add(new LinkedHashMap<>());
+        }
+        int i = 0;
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            result.get((int) ((long) i++ * parts / files.size())).put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * generates the classpath, returns the contents of each relative path
+     */
+    public Map<String, byte[]> generate() throws IOException {
+        Map<String, byte[]> files  = new LinkedHashMap<>();
+        Random              random = new Random(42);
+        ClassPool           pool   = new ClassPool(true);
+        try {
+            for (String annotation : ANNOTATIONS) {
+                add(files, makeAnnotation(pool, annotation));
+            }
+            CtClass root = pool.makeInterface(ROOT);
+            add(files, root);
+
+            CtClass superclass = null;
+            for (int i = 0; i < classes; i++) {
+                CtClass cls = pool.makeClass(className(i));
+                if ((i % depth == 0) || (superclass == null)) {
+                    cls.addInterface(root);
+                } else {
+                    cls.setSuperclass(superclass);
+                }
+                annotate(cls.getClassFile().getConstPool(), cls.getClassFile()::addAttribute, random, i);
+
+                for (int f = 0; f < FIELDS_PER_CLASS; f++) {
+                    CtField field = new CtField(CtClass.intType, "field" + f, cls);
+                    field.setModifiers(Modifier.PUBLIC);
+                    cls.addField(field);
+                    annotate(cls.getClassFile().getConstPool(), field.getFieldInfo()::addAttribute, random, i);
+                }
+                for (int m = 0; m < METHODS_PER_CLASS; m++) {
+                    CtMethod method = CtNewMethod.make("public int method" + m + "(int p, String s) { return field0 + p; }",
+                                                       cls);
+                    cls.addMethod(method);
+                    annotate(cls.getClassFile().getConstPool(), method.getMethodInfo()::addAttribute, random, i);
+                }
+                add(files, cls);
+                superclass = cls;
+
+                if (i % CLASSES_PER_RESOURCE == 0) {
+                    files.put(className(i).replace('.', '/') + ".xml",
+                              ("<resource id=\"" + i + "\"/>").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        } catch (CannotCompileException e) {
+            throw new IOException("could not generate synthetic classpath", e);
+        }
+        return files;
+    }
+
+    private void annotate(ConstPool constPool, AttributeConsumer attributes, Random random, int i) {
+        if (random.nextDouble() < annotationDensity) {
+            AnnotationsAttribute attribute  = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+            Annotation           annotation = new Annotation(ANNOTATIONS[i % ANNOTATIONS.length], constPool);
+            annotation.addMemberValue("value", new StringMemberValue("v" + (i % 10), constPool));
+            attribute.addAnnotation(annotation);
+            attributes.add(attribute);
+        }
+    }
+
+    private static CtClass makeAnnotation(ClassPool pool, String name) throws CannotCompileException {
+        try {
+            CtClass annotation = pool.makeInterface(name, pool.get("java.lang.annotation.Annotation"));
+            annotation.getClassFile().setAccessFlags(AccessFlag.PUBLIC | AccessFlag.INTERFACE | AccessFlag.ABSTRACT
+                                                     | AccessFlag.ANNOTATION);
+            ConstPool            constPool = annotation.getClassFile().getConstPool();
+            AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+            Annotation           retention = new Annotation("java.lang.annotation.Retention", constPool);
+            EnumMemberValue      policy    = new EnumMemberValue(constPool);
+            policy.setType("java.lang.annotation.RetentionPolicy");
+            policy.setValue("RUNTIME");
+            retention.addMemberValue("value", policy);
+            attribute.addAnnotation(retention);
+            annotation.getClassFile().addAttribute(attribute);
+            annotation.addMethod(CtNewMethod.abstractMethod(pool.get("java.lang.String"),
+                                                            "value",
+                                                            new CtClass[0],
+                                                            null,
+                                                            annotation));
+            return annotation;
+        } catch (NotFoundException e) {
+            throw new CannotCompileException(e);
+        }
+    }
+
+    private static void add(Map<String, byte[]> files, CtClass cls) throws IOException, CannotCompileException {
+        files.put(cls.getName().replace('.', '/') + ".class", cls.toBytecode());
+    }
+
+    private interface AttributeConsumer {
+        void add(javassist.bytecode.AttributeInfo attribute);
+    }
+}
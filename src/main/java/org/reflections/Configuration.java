@@ -4,8 +4,10 @@ import com.google.common.base.Predicate;
 import org.reflections.adapters.MetadataAdapter;
 import org.reflections.scanners.Scanner;
 import org.reflections.serializers.Serializer;
+import org.reflections.util.CancellationToken;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.net.URL;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -39,10 +41,40 @@ public interface Configuration {
     Predicate<String> getInputsFilter();
 
     /**
-     * executor service used to scan files. if null, scanning is done in a simple for loop
+     * executor service used to scan files, owned by the caller and not shut down after scanning.
+     * if null, scanning is done on an executor service created for the scan if {@link #getScanParallelism()} is set,
+     * otherwise in a simple for loop
      */
     ExecutorService getExecutorService();
 
+    /**
+     * the number of threads of the executor service created by each scan, if {@link #getExecutorService()} is null.
+     * the executor service is shut down after the scan. if 0, no executor service is created
+     * <p>see {@link org.reflections.util.ConfigurationBuilder#useParallelExecutor(int)}
+     */
+    default int getScanParallelism() {
+        return 0;
+    }
+
+    /**
+     * if true, the executor service created by each scan scans each url on its own virtual thread,
+     * while the files read are parsed and scanned on a thread pool of {@link #getScanParallelism()} threads
+     * <p>see {@link org.reflections.util.ConfigurationBuilder#useVirtualThreads(int)}
+     */
+    default boolean shouldUseVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * executor service used for parsing and scanning files, while the url's files are read on the executor service,
+     * owned by the caller and not shut down after scanning. if null, files are read and scanned on the same thread,
+     * unless {@link #shouldUseVirtualThreads()}
+     */
+    @Nullable
+    default ExecutorService getParsingExecutorService() {
+        return null;
+    }
+
     /**
      * the default serializer to use when saving Reflection
      */
@@ -59,4 +91,80 @@ public interface Configuration {
      * <p>see {@link org.reflections.Reflections#expandSuperTypes()}
      */
     boolean shouldExpandSuperTypes();
+
+    /**
+     * if true, super types are expanded by reading the class files of the super types which were not scanned through the class loaders' resources,
+     * in parallel and cached, rather than by loading them
+     * <p>see {@link org.reflections.util.ClassFileSuperTypes}
+     */
+    default boolean shouldExpandSuperTypesFromClassFiles() {
+        return false;
+    }
+
+    /**
+     * the directory in which the scan result of each url is saved, for incremental scanning.
+     * if not null, only urls which changed since the last scan are scanned, the others are merged from that directory.
+     * <p>see {@link org.reflections.util.UrlScanCache}
+     */
+    @Nullable
+    default File getIncrementalScanDir() {
+        return null;
+    }
+
+    /**
+     * if true, incremental scanning detects changed urls by their contents hash as well, and not only by their size and modification time
+     */
+    default boolean shouldHashUrlContents() {
+        return false;
+    }
+
+    /**
+     * the directory of a content addressed cache of jar scan results, which can be shared by processes on the same host.
+     * if not null, jars whose contents were already scanned with the same scanners are not scanned again.
+     * <p>see {@link org.reflections.util.SharedScanCache}
+     */
+    @Nullable
+    default File getScanCacheDir() {
+        return null;
+    }
+
+    /**
+     * if true, the source url and file of each scanned entry are recorded in the store,
+     * so that they could be removed or reloaded later, see {@link org.reflections.Reflections#reload(java.net.URL)}
+     */
+    default boolean shouldTrackSources() {
+        return false;
+    }
+
+    /**
+     * the maximum time in milliseconds for scanning, after which the scan stops and the urls not scanned are marked as skipped or partial.
+     * if 0 (default), the scan has no deadline.
+     * <p>urls blocked on a read are abandoned only when scanning with an executor service
+     */
+    default long getScanTimeoutMillis() {
+        return 0;
+    }
+
+    /**
+     * a token which stops the scan when cancelled, marking the urls not scanned as skipped or partial
+     */
+    @Nullable
+    default CancellationToken getCancellationToken() {
+        return null;
+    }
+
+    /**
+     * a listener notified of the scan progress
+     */
+    @Nullable
+    default ScanListener getScanListener() {
+        return null;
+    }
+
+    /**
+     * if true, a {@link org.reflections.ReflectionsMXBean} is registered in the platform MBean server for each Reflections instance
+     */
+    default boolean shouldRegisterMBean() {
+        return false;
+    }
 }
@@ -0,0 +1,97 @@
+package org.reflections;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * a hash map of mutable values, which shares its values with the maps copied from it and copies each value only when first modified,
+ * so that copying the map costs a reference per key rather than a copy of every value
+ * <p>values returned by {@link #get(Object)} must not be modified, use {@link #getForWrite(Object)} or {@link #getOrCreate(Object, Supplier)} instead
+ */
+class CopyOnWriteValues<K, V> {
+
+    private final Map<K, V>        map;
+    private final Set<K>           owned = new HashSet<>(); //keys whose values are not shared with another map
+    private final UnaryOperator<V> copier;
+
+    CopyOnWriteValues(UnaryOperator<V> copier) {
+        this(new HashMap<>(), copier);
+    }
+
+    private CopyOnWriteValues(Map<K, V> map, UnaryOperator<V> copier) {
+        this.map = map;
+        this.copier = copier;
+    }
+
+    /**
+     * returns a copy sharing the values of this map, which are then copied by either map when first modified
+     */
+    CopyOnWriteValues<K, V> copy() {
+        owned.clear();
+        return new CopyOnWriteValues<>(new HashMap<>(map), copier);
+    }
+
+    @Nullable
+    V get(Object key) {
+        return map.get(key);
+    }
+
+    /**
+     * returns the value of the given key for modification, copying it first if shared, or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    V getForWrite(Object key) {
+        V value = map.get(key);
+        if ((value != null) && owned.add((K) key)) {
+            value = copier.apply(value);
+            map.put((K) key, value);
+        }
+        return value;
+    }
+
+    /**
+     * returns the value of the given key for modification, copying it first if shared, or creating it if there is none
+     */
+    V getOrCreate(K key, Supplier<? extends V> factory) {
+        V value = getForWrite(key);
+        if (value == null) {
+            value = factory.get();
+            map.put(key, value);
+            owned.add(key);
+        }
+        return value;
+    }
+
+    boolean isOwned(Object key) {
+        return owned.contains(key);
+    }
+
+    /**
+     * removes the given key, returning its value, which may be shared and must not be modified
+     */
+    @Nullable
+    V remove(Object key) {
+        owned.remove(key);
+        return map.remove(key);
+    }
+
+    void clear() {
+        map.clear();
+        owned.clear();
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    Set<K> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+
+    Collection<V> values() {
+        return Collections.unmodifiableCollection(map.values());
+    }
+}
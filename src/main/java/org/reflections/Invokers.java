@@ -0,0 +1,389 @@
+package org.reflections;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.*;
+
+/**
+ * fast invokers of methods and accessors of fields, for invoking the results of queries on hot paths
+ * <p>for example:
+ * <pre>
+ *      List&#60MethodInvoker> handlers = Invokers.invokers(reflections.getMethodsAnnotatedWith(Handler.class));
+ *      for (MethodInvoker handler : handlers) {
+ *          handler.invoke(target, event);
+ *      }
+ * </pre>
+ * <p>methods with no or one parameter are invoked through a class generated by {@link LambdaMetafactory} when the method's class is accessible to it,
+ * other methods and fields through a {@link MethodHandle}, and if neither is accessible, through reflection.
+ * invokers are cached per member, of classes of this library's class loader, its descendants and its ancestors only,
+ * so that the cache prevents neither these classes nor this library from being unloaded.
+ * <p>exceptions thrown by the invoked method are rethrown as is if unchecked, otherwise wrapped in a {@link ReflectionsException}
+ * <p>invokers take untyped arguments, so that the invokers of any methods returned by a query can be held and invoked alike.
+ * arguments of primitive parameters are unboxed, and results of primitive methods are boxed
+ */
+public abstract class Invokers {
+
+    /**
+     * invokes a method
+     */
+    public interface MethodInvoker {
+        /**
+         * the invoked method
+         */
+        Method getMethod();
+
+        /**
+         * invokes the method on the given target, which is ignored for static methods, with the given arguments
+         */
+        Object invoke(@Nullable Object target, Object... args);
+    }
+
+    /**
+     * gets and sets a field
+     */
+    public interface FieldAccessor {
+        /**
+         * the accessed field
+         */
+        Field getField();
+
+        /**
+         * gets the value of the field of the given target, which is ignored for static fields
+         */
+        Object get(@Nullable Object target);
+
+        /**
+         * sets the value of the field of the given target, which is ignored for static fields
+         */
+        void set(@Nullable Object target, Object value);
+    }
+
+    //invokers are classes of this library, which, cached on a class outliving this library's class loader, would keep it from being unloaded.
+    //so invokers are cached on the classes of this library's class loader and its descendants, which keep it loaded anyway,
+    //and in this class for the classes of its ancestors, which outlive it anyway
+    private static final ClassValue<Map<Member, Object>> cache = new ClassValue<Map<Member, Object>>() {
+        @Override
+        protected Map<Member, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final Map<Member, Object> ancestorsCache = new ConcurrentHashMap<>();
+
+    @Nullable private static final Method privateLookupIn = privateLookupIn();
+
+    /**
+     * get the cached invoker of the given method
+     */
+    public static MethodInvoker invoker(Method method) {
+        Map<Member, Object> cache = cache(method.getDeclaringClass());
+        return (cache != null) ? (MethodInvoker) cache.computeIfAbsent(method, key -> create(method)) : create(method);
+    }
+
+    /**
+     * get the cached invokers of the given methods, in their iteration order
+     */
+    public static List<MethodInvoker> invokers(Iterable<Method> methods) {
+        List<MethodInvoker> result = new ArrayList<>();
+        for (Method method : methods) {
+            result.add(invoker(method));
+        }
+        return result;
+    }
+
+    /**
+     * get the cached accessor of the given field
+     */
+    public static FieldAccessor accessor(Field field) {
+        Map<Member, Object> cache = cache(field.getDeclaringClass());
+        return (cache != null) ? (FieldAccessor) cache.computeIfAbsent(field, key -> create(field)) : create(field);
+    }
+
+    /**
+     * get the cached accessors of the given fields, in their iteration order
+     */
+    public static List<FieldAccessor> accessors(Iterable<Field> fields) {
+        List<FieldAccessor> result = new ArrayList<>();
+        for (Field field : fields) {
+            result.add(accessor(field));
+        }
+        return result;
+    }
+
+    //
+    /**
+     * the cache of the invokers of the given class, or null if its class loader is not related to this library's class loader
+     */
+    @Nullable
+    private static Map<Member, Object> cache(Class<?> type) {
+        ClassLoader own    = Invokers.class.getClassLoader();
+        ClassLoader loader = type.getClassLoader();
+        if (own == null) {
+            return cache.get(type);
+        }
+        for (ClassLoader descendant = loader; descendant != null; descendant = descendant.getParent()) {
+            if (descendant == own) {
+                return cache.get(type);
+            }
+        }
+        for (ClassLoader ancestor = own; ancestor != null; ancestor = ancestor.getParent()) {
+            if (ancestor == loader) {
+                return ancestorsCache;
+            }
+        }
+        return (loader == null) ? ancestorsCache : null;
+    }
+
+    private static MethodInvoker create(Method method) {
+        MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+        if ((lookup != null) && (method.getParameterCount() <= 1)) {
+            try {
+                return lambda(method, lookup, lookup.unreflect(method));
+            } catch (Throwable e) {
+                if (Reflections.log != null) {
+                    Reflections.log.debug("could not generate invoker of " + method + ", using a method handle", e);
+                }
+            }
+        }
+        try {
+            MethodHandle handle = unreflect(method, lookup);
+            boolean      isStatic = Modifier.isStatic(method.getModifiers());
+            MethodHandle spread = (isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle)
+                    .asType(MethodType.genericMethodType(method.getParameterCount() + 1))
+                    .asSpreader(Object[].class, method.getParameterCount());
+            return invoker(method, (target, args) -> spread.invokeExact(target, args));
+        } catch (Throwable e) {
+            if (Reflections.log != null) {
+                Reflections.log.debug("could not create method handle of " + method + ", using reflection", e);
+            }
+        }
+        return invoker(method, (target, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * implements a functional interface matching the method's arity and return type using {@link LambdaMetafactory}
+     */
+    @SuppressWarnings("unchecked")
+    private static MethodInvoker lambda(Method method, MethodHandles.Lookup lookup, MethodHandle handle)
+            throws Throwable {
+        boolean  isStatic = Modifier.isStatic(method.getModifiers());
+        boolean  isVoid   = method.getReturnType() == void.class;
+        int      arity    = method.getParameterCount() + (isStatic ? 0 : 1);
+        Class<?> type;
+        String   name;
+        if (arity == 0) {
+            type = isVoid ? Runnable.class : Supplier.class;
+            name = isVoid ? "run" : "get";
+        } else if (arity == 1) {
+            type = isVoid ? Consumer.class : Function.class;
+            name = isVoid ? "accept" : "apply";
+        } else {
+            type = isVoid ? BiConsumer.class : BiFunction.class;
+            name = isVoid ? "accept" : "apply";
+        }
+        MethodType samType          = MethodType.genericMethodType(arity);
+        MethodType instantiatedType = handle.type().wrap();
+        if (isVoid) {
+            samType = samType.changeReturnType(void.class);
+            instantiatedType = instantiatedType.changeReturnType(void.class);
+        }
+        Object function = LambdaMetafactory.metafactory(lookup,
+                                                        name,
+                                                        MethodType.methodType(type),
+                                                        samType,
+                                                        handle,
+                                                        instantiatedType).getTarget().invoke();
+
+        if (arity == 0) {
+            return isVoid
+                   ? invoker(method, (target, args) -> {
+                       ((Runnable) function).run();
+                       return null;
+                   })
+                   : invoker(method, (target, args) -> ((Supplier<Object>) function).get());
+        } else if (arity == 1) {
+            return isVoid
+                   ? invoker(method, (target, args) -> {
+                       ((Consumer<Object>) function).accept(isStatic ? args[0] : target);
+                       return null;
+                   })
+                   : invoker(method, (target, args) -> ((Function<Object, Object>) function).apply(isStatic ? args[0] : target));
+        } else {
+            return isVoid
+                   ? invoker(method, (target, args) -> {
+                       ((BiConsumer<Object, Object>) function).accept(target, args[0]);
+                       return null;
+                   })
+                   : invoker(method, (target, args) -> ((BiFunction<Object, Object, Object>) function).apply(target, args[0]));
+        }
+    }
+
+    private static FieldAccessor create(Field field) {
+        MethodHandles.Lookup lookup = privateLookup(field.getDeclaringClass());
+        try {
+            boolean      isStatic = Modifier.isStatic(field.getModifiers());
+            MethodHandle getter   = unreflectGetter(field, lookup);
+            MethodHandle setter   = Modifier.isFinal(field.getModifiers()) ? null : unreflectSetter(field, lookup);
+            MethodHandle get = (isStatic ? MethodHandles.dropArguments(getter, 0, Object.class) : getter)
+                    .asType(MethodType.genericMethodType(1));
+            MethodHandle set = (setter == null)
+                               ? null
+                               : (isStatic ? MethodHandles.dropArguments(setter, 0, Object.class) : setter)
+                                       .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return accessor(field, target -> get.invokeExact(target), (target, value) -> {
+                if (set == null) {
+                    throw new ReflectionsException("can not set final field " + field);
+                }
+                set.invokeExact(target, value);
+            });
+        } catch (Throwable e) {
+            if (Reflections.log != null) {
+                Reflections.log.debug("could not create method handles of " + field + ", using reflection", e);
+            }
+        }
+        return accessor(field, field::get, field::set);
+    }
+
+    private static MethodHandle unreflect(Method method, @Nullable MethodHandles.Lookup lookup)
+            throws IllegalAccessException {
+        return (lookup != null) ? lookup.unreflect(method) : MethodHandles.lookup().unreflect(accessible(method));
+    }
+
+    private static MethodHandle unreflectGetter(Field field, @Nullable MethodHandles.Lookup lookup)
+            throws IllegalAccessException {
+        return (lookup != null) ? lookup.unreflectGetter(field) : MethodHandles.lookup().unreflectGetter(accessible(field));
+    }
+
+    private static MethodHandle unreflectSetter(Field field, @Nullable MethodHandles.Lookup lookup)
+            throws IllegalAccessException {
+        return (lookup != null) ? lookup.unreflectSetter(field) : MethodHandles.lookup().unreflectSetter(accessible(field));
+    }
+
+    /**
+     * a copy of the given member made accessible if it is not, so that the given member, which might be shared, is not modified
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends AccessibleObject & Member> T accessible(T member) {
+        if (Modifier.isPublic(member.getModifiers()) && Modifier.isPublic(member.getDeclaringClass().getModifiers())) {
+            return member;
+        }
+        try {
+            AccessibleObject copy = (member instanceof Method)
+                                    ? member.getDeclaringClass().getDeclaredMethod(member.getName(),
+                                                                                   ((Method) member).getParameterTypes())
+                                    : member.getDeclaringClass().getDeclaredField(member.getName());
+            copy.setAccessible(true);
+            return (T) copy;
+        } catch (NoSuchMethodException | NoSuchFieldException e) {
+            throw new ReflectionsException("could not find " + member, e);
+        }
+    }
+
+    /**
+     * a lookup with private access to the given class, using {@code MethodHandles.privateLookupIn} if available (java 9 and later)
+     */
+    @Nullable
+    private static MethodHandles.Lookup privateLookup(Class<?> type) {
+        if (privateLookupIn != null) {
+            try {
+                return (MethodHandles.Lookup) privateLookupIn.invoke(null, type, MethodHandles.lookup());
+            } catch (Exception e) {
+                //not accessible, a method handle or reflection is used
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Method privateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private interface Invocation {
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+
+    private interface Getter {
+        Object get(Object target) throws Throwable;
+    }
+
+    private interface Setter {
+        void set(Object target, Object value) throws Throwable;
+    }
+
+    private static MethodInvoker invoker(Method method, Invocation invocation) {
+        return new MethodInvoker() {
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object invoke(@Nullable Object target, Object... args) {
+                try {
+                    return invocation.invoke(target, args);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionsException("could not invoke " + method, e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return method.toString();
+            }
+        };
+    }
+
+    private static FieldAccessor accessor(Field field, Getter getter, Setter setter) {
+        return new FieldAccessor() {
+            @Override
+            public Field getField() {
+                return field;
+            }
+
+            @Override
+            public Object get(@Nullable Object target) {
+                try {
+                    return getter.get(target);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionsException("could not get " + field, e);
+                }
+            }
+
+            @Override
+            public void set(@Nullable Object target, Object value) {
+                try {
+                    setter.set(target, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionsException("could not set " + field, e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return field.toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,221 @@
+package org.reflections;
+
+import org.reflections.vfs.Vfs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * a live {@link org.reflections.Reflections} index, kept up to date with changes in the scanned directories
+ * <p>directory urls in the configuration (such as classes directories) are watched using a {@link java.nio.file.WatchService}.
+ * bursts of changes are debounced, then created or modified files are scanned again and deleted files are removed from the index.
+ * jar urls are not watched.
+ * <p>changes are applied to a copy of the current index which then replaces it, so that each instance returned by
+ * {@link #getReflections()} is a consistent snapshot which is not modified afterwards.
+ * the copy shares the entries which were not changed with the snapshot, and the {@link org.reflections.ReflectionsMXBean}, if registered,
+ * is registered for the new snapshot instead.
+ * <p>depends on {@link org.reflections.Configuration#shouldTrackSources()}, for example:
+ * <pre>
+ *     LiveReflections live = new LiveReflections(new ConfigurationBuilder()
+ *          .forPackages("my.package")
+ *          .setTrackSources(true));
+ *
+ *     Set&#60Class&#60? extends Plugin>> plugins = live.getReflections().getSubTypesOf(Plugin.class);
+ * </pre>
+ */
+public class LiveReflections implements Closeable {
+
+    private final    long              debounceMillis;
+    private final    WatchService      watchService;
+    private final    Map<WatchKey, Path> watchedDirs = new HashMap<>();
+    private final    Map<Path, URL>    roots       = new HashMap<>();
+    private final    Thread            thread;
+    private volatile Reflections       reflections;
+
+    /**
+     * scans according to the given configuration and starts watching its directory urls, with changes debounced for 200 ms
+     */
+    public LiveReflections(Configuration configuration) {
+        this(configuration, 200);
+    }
+
+    /**
+     * scans according to the given configuration and starts watching its directory urls,
+     * applying changes after no more changes occurred for {@code debounceMillis}
+     */
+    public LiveReflections(Configuration configuration, long debounceMillis) {
+        if (!configuration.shouldTrackSources()) {
+            throw new ReflectionsException("LiveReflections depends on tracked sources. "
+                                           + "Make sure the configuration tracks sources - new ConfigurationBuilder().setTrackSources(true)");
+        }
+        this.debounceMillis = debounceMillis;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (URL url : configuration.getUrls()) {
+                java.io.File file = Vfs.getFile(url);
+                if ((file != null) && file.isDirectory()) {
+                    Path root = file.toPath().toAbsolutePath();
+                    roots.put(root, url);
+                    register(root);
+                }
+            }
+        } catch (IOException e) {
+            throw new ReflectionsException("could not watch urls", e);
+        }
+
+        reflections = new Reflections(configuration);
+
+        thread = new Thread(this::watch, "org.reflections-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * returns the current snapshot of the index
+     */
+    public Reflections getReflections() {
+        return reflections;
+    }
+
+    /**
+     * stops watching for changes. the current snapshot remains usable
+     */
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("Could not close WatchService", e);
+            }
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Map<Path, WatchEvent.Kind<?>> changes = new LinkedHashMap<>();
+                Set<Path>                     overflows = new HashSet<>();
+                WatchKey                      key       = watchService.take();
+                while (key != null) {
+                    collect(key, changes, overflows);
+                    key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                }
+                apply(changes, overflows);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            //closed
+        }
+    }
+
+    private void collect(WatchKey key, Map<Path, WatchEvent.Kind<?>> changes, Set<Path> overflows) {
+        Path dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir == null) {
+                break; //not watched anymore
+            } else if (event.kind() == OVERFLOW) {
+                overflows.add(root(dir));
+            } else {
+                Path path = dir.resolve((Path) event.context());
+                changes.remove(path);
+                changes.put(path, event.kind());
+            }
+        }
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+    }
+
+    private void apply(Map<Path, WatchEvent.Kind<?>> changes, Set<Path> overflows) {
+        long        start = System.currentTimeMillis();
+        Reflections next  = new Reflections(reflections);
+        for (Path root : overflows) {
+            next.reload(roots.get(root));
+        }
+        for (Map.Entry<Path, WatchEvent.Kind<?>> change : changes.entrySet()) {
+            Path path = change.getKey();
+            Path root = root(path);
+            if ((root == null) || overflows.contains(root)) {
+                continue;
+            }
+            URL url = roots.get(root);
+            try {
+                if (Files.isDirectory(path)) {
+                    register(path);
+                    for (Path file : files(path)) {
+                        next.reload(url, relativePath(root, file));
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    next.reload(url, relativePath(root, path));
+                } else {
+                    //deleted file or directory
+                    String relativePath = relativePath(root, path);
+                    for (String source : next.getStore().getSources(url.toExternalForm())) {
+                        if (source.equals(relativePath) || source.startsWith(relativePath + '/')) {
+                            next.remove(url, source);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (Reflections.log != null) {
+                    Reflections.log.warn("could not apply change of " + path + ". ignoring the change and continuing", e);
+                }
+            }
+        }
+        if (next.getConfiguration().shouldExpandSuperTypes()) {
+            next.expandSuperTypes();
+        }
+        Reflections previous = reflections;
+        reflections = next;
+        previous.unregisterMBean();
+
+        if (Reflections.log != null) {
+            Reflections.log.info(String.format("Reflections took %d ms to apply %d changes",
+                                               System.currentTimeMillis() - start,
+                                               changes.size()));
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                watchedDirs.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private Path root(Path path) {
+        for (Path root : roots.keySet()) {
+            if (path.startsWith(root)) {
+                return root;
+            }
+        }
+        return null;
+    }
+
+    private static List<Path> files(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                files.add(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    private static String relativePath(Path root, Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+}
@@ -8,6 +8,8 @@ import org.reflections.util.ClasspathHelper;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 
 import static org.reflections.util.Utils.isEmpty;
@@ -59,11 +61,68 @@ public abstract class ReflectionUtils {
      */
     public static final boolean includeObject = false;
 
+    //relative costs of predicates, for ordering conjunctions
+    private static final int CHEAP     = 0;
+    private static final int MODERATE  = 1;
+    private static final int EXPENSIVE = 2;
+
+    private static volatile boolean cacheEnabled;
+
+    //slots of the cached data of a member, see memberCache
+    private static final int PARAMETER_TYPES       = 0;
+    private static final int STRING                = 1;
+    private static final int PARAMETER_ANNOTATIONS = 2;
+
+    //slots of the cached elements of a class, see typeCache
+    private static final int ALL_SUPER_TYPES  = 0;
+    private static final int ALL_METHODS      = 1;
+    private static final int ALL_CONSTRUCTORS = 2;
+    private static final int ALL_FIELDS       = 3;
+    private static final int ALL_ANNOTATIONS  = 4;
+
+    //values are of jdk types only, a value of a library class stored on a jdk class would keep this library's class loader from being unloaded
+    private static final ClassValue<Map<Member, AtomicReferenceArray<Object>>> memberCaches =
+            new ClassValue<Map<Member, AtomicReferenceArray<Object>>>() {
+                @Override
+                protected Map<Member, AtomicReferenceArray<Object>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<AtomicReferenceArray<Object[]>> typeCache = new ClassValue<AtomicReferenceArray<Object[]>>() {
+        @Override
+        protected AtomicReferenceArray<Object[]> computeValue(Class<?> type) {
+            return new AtomicReferenceArray<>(5);
+        }
+    };
+
+    /**
+     * if set to true, the super types, methods, constructors, fields and annotations of each class up its super class hierarchy
+     * are computed once and cached per class, so that the getAll* methods only filter the cached elements into a new set. default is false.
+     * <p>the parameter types, parameter annotations and string form of members evaluated by the predicates of this class are cached as well.
+     * <p>the cache is a {@link ClassValue} holding only arrays and jdk collections, so it does not prevent classes and their class loaders,
+     * nor the class loader of this library, from being unloaded.
+     * note that cached {@link java.lang.reflect.AccessibleObject}s are shared, so that {@code setAccessible} on one is seen by all callers
+     */
+    public static void setCacheEnabled(boolean cacheEnabled) {
+        ReflectionUtils.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * true if the getAll* methods are cached per class, see {@link #setCacheEnabled(boolean)}
+     */
+    public static boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
     /**
      * get all super types of given {@code type}, including, optionally filtered by {@code predicates}
      * <p> include {@code Object.class} if {@link #includeObject} is true
      */
     public static Set<Class<?>> getAllSuperTypes(Class<?> type, Predicate<? super Class<?>>... predicates) {
+        if (cacheEnabled && (type != null)) {
+            return filter(cachedAllSuperTypes(type), predicates);
+        }
         Set<Class<?>> result = Sets.newLinkedHashSet();
         if ((type != null) && (includeObject || !type.equals(Object.class))) {
             result.add(type);
@@ -94,6 +153,9 @@ public abstract class ReflectionUtils {
      * get all methods of given {@code type}, up the super class hierarchy, optionally filtered by {@code predicates}
      */
     public static Set<Method> getAllMethods(Class<?> type, Predicate<? super Method>... predicates) {
+        if (cacheEnabled && (type != null)) {
+            return filter(cachedAllMethods(type), predicates);
+        }
         Set<Method> result = Sets.newHashSet();
         for (Class<?> t : getAllSuperTypes(type)) {
             result.addAll(getMethods(t, predicates));
@@ -112,6 +174,9 @@ public abstract class ReflectionUtils {
      * get all constructors of given {@code type}, up the super class hierarchy, optionally filtered by {@code predicates}
      */
     public static Set<Constructor> getAllConstructors(Class<?> type, Predicate<? super Constructor>... predicates) {
+        if (cacheEnabled && (type != null)) {
+            return filter(cachedAllConstructors(type), predicates);
+        }
         Set<Constructor> result = Sets.newHashSet();
         for (Class<?> t : getAllSuperTypes(type)) {
             result.addAll(getConstructors(t, predicates));
@@ -130,6 +195,9 @@ public abstract class ReflectionUtils {
      * get all fields of given {@code type}, up the super class hierarchy, optionally filtered by {@code predicates}
      */
     public static Set<Field> getAllFields(Class<?> type, Predicate<? super Field>... predicates) {
+        if (cacheEnabled && (type != null)) {
+            return filter(cachedAllFields(type), predicates);
+        }
         Set<Field> result = Sets.newHashSet();
         for (Class<?> t : getAllSuperTypes(type)) {
             result.addAll(getFields(t, predicates));
@@ -149,6 +217,9 @@ public abstract class ReflectionUtils {
      */
     public static <T extends AnnotatedElement> Set<Annotation> getAllAnnotations(T type,
                                                                                  Predicate<Annotation>... predicates) {
+        if (cacheEnabled && (type instanceof Class)) {
+            return filter(cachedAllAnnotations((Class<?>) type), predicates);
+        }
         Set<Annotation> result = Sets.newHashSet();
         if (type instanceof Class) {
             for (Class<?> t : getAllSuperTypes((Class<?>) type)) {
@@ -172,7 +243,7 @@ public abstract class ReflectionUtils {
      * filter all given {@code elements} with {@code predicates}, if given
      */
     public static <T extends AnnotatedElement> Set<T> getAll(Set<T> elements, Predicate<? super T>... predicates) {
-        return isEmpty(predicates) ? elements : Sets.newHashSet(Iterables.filter(elements, Predicates.and(predicates)));
+        return isEmpty(predicates) ? elements : Sets.newHashSet(Iterables.filter(elements, ReflectionUtils.<T>and(predicates)));
     }
 
     //predicates
@@ -181,14 +252,14 @@ public abstract class ReflectionUtils {
      * where member name equals given {@code name}
      */
     public static <T extends Member> Predicate<T> withName(String name) {
-        return input -> (input != null) && input.getName().equals(name);
+        return costed(CHEAP, input -> (input != null) && input.getName().equals(name));
     }
 
     /**
      * where member name startsWith given {@code prefix}
      */
     public static <T extends Member> Predicate<T> withPrefix(String prefix) {
-        return input -> (input != null) && input.getName().startsWith(prefix);
+        return costed(CHEAP, input -> (input != null) && input.getName().startsWith(prefix));
     }
 
     /**
@@ -199,120 +270,130 @@ public abstract class ReflectionUtils {
      * </pre>
      */
     public static <T extends AnnotatedElement> Predicate<T> withPattern(String regex) {
-        return input -> Pattern.matches(regex, input.toString());
+        Pattern pattern = Pattern.compile(regex);
+        return costed(EXPENSIVE, input -> pattern.matcher(string(input)).matches());
     }
 
     /**
      * where element is annotated with given {@code annotation}
      */
     public static <T extends AnnotatedElement> Predicate<T> withAnnotation(Class<? extends Annotation> annotation) {
-        return input -> (input != null) && input.isAnnotationPresent(annotation);
+        return costed(MODERATE, input -> (input != null) && input.isAnnotationPresent(annotation));
     }
 
     /**
      * where element is annotated with given {@code annotations}
      */
     public static <T extends AnnotatedElement> Predicate<T> withAnnotations(Class<? extends Annotation>... annotations) {
-        return input -> (input != null) && Arrays.equals(annotations, annotationTypes(input.getAnnotations()));
+        return costed(MODERATE,
+                      input -> (input != null) && Arrays.equals(annotations, annotationTypes(input.getAnnotations())));
     }
 
     /**
      * where element is annotated with given {@code annotation}, including member matching
      */
     public static <T extends AnnotatedElement> Predicate<T> withAnnotation(Annotation annotation) {
-        return input -> (input != null) && input.isAnnotationPresent(annotation.annotationType())
-                        && areAnnotationMembersMatching(input.getAnnotation(annotation.annotationType()), annotation);
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        Predicate<Annotation>       matching       = membersMatching(annotation);
+        return costed(EXPENSIVE, input -> (input != null) && matching.apply(input.getAnnotation(annotationType)));
     }
 
     /**
      * where element is annotated with given {@code annotations}, including member matching
      */
     public static <T extends AnnotatedElement> Predicate<T> withAnnotations(Annotation... annotations) {
-        return input -> {
+        List<Predicate<Annotation>> matching = new ArrayList<>(annotations.length);
+        for (Annotation annotation : annotations) {
+            matching.add(membersMatching(annotation));
+        }
+        return costed(EXPENSIVE, input -> {
             if (input != null) {
                 Annotation[] inputAnnotations = input.getAnnotations();
                 if (inputAnnotations.length == annotations.length) {
                     for (int i = 0; i < inputAnnotations.length; i++) {
-                        if (!areAnnotationMembersMatching(inputAnnotations[i], annotations[i])) {
+                        if (!matching.get(i).apply(inputAnnotations[i])) {
                             return false;
                         }
                     }
                 }
             }
             return true;
-        };
+        });
     }
 
     /**
      * when method/constructor parameter types equals given {@code types}
      */
     public static Predicate<Member> withParameters(Class<?>... types) {
-        return input -> Arrays.equals(parameterTypes(input), types);
+        return costed(MODERATE, input -> Arrays.equals(parameterTypes(input), types));
     }
 
     /**
      * when member parameter types assignable to given {@code types}
      */
     public static Predicate<Member> withParametersAssignableTo(Class... types) {
-        return input -> isAssignable(types, parameterTypes(input));
+        return costed(MODERATE, input -> isAssignable(types, parameterTypes(input)));
     }
 
     /**
      * when method/constructor parameter types assignable from given {@code types}
      */
     public static Predicate<Member> withParametersAssignableFrom(Class... types) {
-        return input -> isAssignable(parameterTypes(input), types);
+        return costed(MODERATE, input -> isAssignable(parameterTypes(input), types));
     }
 
     /**
      * when method/constructor parameters count equal given {@code count}
      */
     public static Predicate<Member> withParametersCount(int count) {
-        return input -> (input != null) && (parameterTypes(input).length == count);
+        return costed(CHEAP,
+                      input -> (input != null) && ((input instanceof Executable)
+                                                   ? (((Executable) input).getParameterCount() == count)
+                                                   : (parameterTypes(input).length == count)));
     }
 
     /**
      * when method/constructor has any parameter with an annotation matches given {@code annotations}
      */
     public static Predicate<Member> withAnyParameterAnnotation(Class<? extends Annotation> annotationClass) {
-        return input -> (input != null) && Iterables.any(annotationTypes(parameterAnnotations(input)),
-                                                         input1 -> input1.equals(annotationClass));
+        return costed(EXPENSIVE, input -> (input != null) && Iterables.any(annotationTypes(parameterAnnotations(input)),
+                                                                           input1 -> input1.equals(annotationClass)));
     }
 
     /**
      * when method/constructor has any parameter with an annotation matches given {@code annotations}, including member matching
      */
     public static Predicate<Member> withAnyParameterAnnotation(Annotation annotation) {
-        return input -> (input != null) && Iterables.any(parameterAnnotations(input),
-                                                         input1 -> areAnnotationMembersMatching(annotation, input1));
+        Predicate<Annotation> matching = membersMatching(annotation);
+        return costed(EXPENSIVE, input -> (input != null) && Iterables.any(parameterAnnotations(input), matching));
     }
 
     /**
      * when field type equal given {@code type}
      */
     public static <T> Predicate<Field> withType(Class<T> type) {
-        return input -> (input != null) && input.getType().equals(type);
+        return costed(CHEAP, input -> (input != null) && input.getType().equals(type));
     }
 
     /**
      * when field type assignable to given {@code type}
      */
     public static <T> Predicate<Field> withTypeAssignableTo(Class<T> type) {
-        return input -> (input != null) && type.isAssignableFrom(input.getType());
+        return costed(CHEAP, input -> (input != null) && type.isAssignableFrom(input.getType()));
     }
 
     /**
      * when method return type equal given {@code type}
      */
     public static <T> Predicate<Method> withReturnType(Class<T> type) {
-        return input -> (input != null) && input.getReturnType().equals(type);
+        return costed(CHEAP, input -> (input != null) && input.getReturnType().equals(type));
     }
 
     /**
      * when method return type assignable from given {@code type}
      */
     public static <T> Predicate<Method> withReturnTypeAssignableTo(Class<T> type) {
-        return input -> (input != null) && type.isAssignableFrom(input.getReturnType());
+        return costed(CHEAP, input -> (input != null) && type.isAssignableFrom(input.getReturnType()));
     }
 
     /**
@@ -323,7 +404,7 @@ public abstract class ReflectionUtils {
      * </pre>
      */
     public static <T extends Member> Predicate<T> withModifier(int mod) {
-        return input -> (input != null) && ((input.getModifiers() & mod) != 0);
+        return costed(CHEAP, input -> (input != null) && ((input.getModifiers() & mod) != 0));
     }
 
     /**
@@ -334,7 +415,7 @@ public abstract class ReflectionUtils {
      * </pre>
      */
     public static Predicate<Class<?>> withClassModifier(int mod) {
-        return input -> (input != null) && ((input.getModifiers() & mod) != 0);
+        return costed(CHEAP, input -> (input != null) && ((input.getModifiers() & mod) != 0));
     }
 
     //
@@ -406,12 +487,17 @@ public abstract class ReflectionUtils {
     private static Class[] parameterTypes(Member member) {
         if (member == null) {
             return null;
+        } else if (cacheEnabled && (member instanceof Executable)) {
+            return (Class[]) memberCache(member, PARAMETER_TYPES);
         } else {
             return (member instanceof Executable) ? ((Executable) member).getParameterTypes() : null;
         }
     }
 
     private static Set<Annotation> parameterAnnotations(Member member) {
+        if (cacheEnabled && (member instanceof Executable)) {
+            return (Set<Annotation>) memberCache(member, PARAMETER_ANNOTATIONS);
+        }
         Set<Annotation> result = Sets.newHashSet();
         Annotation[][]  annotations;
         annotations = (member instanceof Executable) ? ((Executable) member).getParameterAnnotations() : null;
@@ -421,6 +507,37 @@ public abstract class ReflectionUtils {
         return result;
     }
 
+    private static String string(AnnotatedElement element) {
+        return (cacheEnabled && (element instanceof Member)) ? (String) memberCache((Member) element, STRING) : element.toString();
+    }
+
+    /**
+     * returns the data of the given slot derived from a method, constructor or field, computed once on first use
+     */
+    private static Object memberCache(Member member, int slot) {
+        AtomicReferenceArray<Object> cache =
+                memberCaches.get(member.getDeclaringClass()).computeIfAbsent(member, m -> new AtomicReferenceArray<>(3));
+        Object result = cache.get(slot);
+        if (result == null) {
+            switch (slot) {
+                case PARAMETER_TYPES:
+                    result = ((Executable) member).getParameterTypes();
+                    break;
+                case STRING:
+                    result = member.toString();
+                    break;
+                default:
+                    Set<Annotation> annotations = Sets.newHashSet();
+                    for (Annotation[] annotation : ((Executable) member).getParameterAnnotations()) {
+                        Collections.addAll(annotations, annotation);
+                    }
+                    result = Collections.unmodifiableSet(annotations);
+            }
+            cache.set(slot, result);
+        }
+        return result;
+    }
+
     private static Set<Class<? extends Annotation>> annotationTypes(Iterable<Annotation> annotations) {
         Set<Class<? extends Annotation>> result = Sets.newHashSet();
         for (Annotation annotation : annotations) {
@@ -485,33 +602,158 @@ public abstract class ReflectionUtils {
     static <T> Set<T> filter(T[] elements, Predicate<? super T>... predicates) {
         return isEmpty(predicates)
                ? Sets.newHashSet(elements)
-               : Sets.newHashSet(Iterables.filter(Arrays.asList(elements), Predicates.and(predicates)));
+               : Sets.newHashSet(Iterables.filter(Arrays.asList(elements), and(predicates)));
     }
 
     static <T> Set<T> filter(Iterable<T> elements, Predicate<? super T>... predicates) {
         return isEmpty(predicates)
                ? Sets.newHashSet(elements)
-               : Sets.newHashSet(Iterables.filter(elements, Predicates.and(predicates)));
+               : Sets.newHashSet(Iterables.filter(elements, and(predicates)));
     }
 
-    private static boolean areAnnotationMembersMatching(Annotation annotation1, Annotation annotation2) {
-        if ((annotation2 != null) && (annotation1.annotationType() == annotation2.annotationType())) {
-            for (Method method : annotation1.annotationType().getDeclaredMethods()) {
-                try {
-                    if (!method.invoke(annotation1).equals(method.invoke(annotation2))) {
-                        return false;
-                    }
-                } catch (Exception e) {
-                    throw new ReflectionsException(String.format("could not invoke method %s on annotation %s",
-                                                                 method.getName(),
-                                                                 annotation1.annotationType()), e);
+    /**
+     * the conjunction of the given predicates, evaluating the predicates of this class first, cheaper ones first.
+     * other predicates, such as the caller's own, are evaluated after all of them, in their given order
+     */
+    private static <T> Predicate<T> and(Predicate<? super T>[] predicates) {
+        if (predicates.length == 1) {
+            return (Predicate<T>) predicates[0];
+        }
+        Predicate<? super T>[] sorted = predicates.clone();
+        //a stable sort, keeping the given order of predicates of the same cost
+        Arrays.sort(sorted, Comparator.comparingInt(predicate -> (predicate instanceof CostedPredicate)
+                                                                 ? ((CostedPredicate<?>) predicate).cost
+                                                                 : Integer.MAX_VALUE));
+        return Predicates.and(sorted);
+    }
+
+    private static <T> Predicate<T> costed(int cost, Predicate<T> predicate) {
+        return new CostedPredicate<>(cost, predicate);
+    }
+
+    /**
+     * the member values of the given annotation, read once, matched against the member values of other annotations of its type
+     */
+    private static Predicate<Annotation> membersMatching(Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        Method[]                    members        = annotationType.getDeclaredMethods();
+        Object[]                    values         = new Object[members.length];
+        for (int i = 0; i < members.length; i++) {
+            values[i] = invoke(members[i], annotation);
+        }
+        return input -> {
+            if ((input == null) || (input.annotationType() != annotationType)) {
+                return false;
+            }
+            for (int i = 0; i < members.length; i++) {
+                if (!Objects.deepEquals(invoke(members[i], input), values[i])) {
+                    return false;
                 }
             }
             return true;
+        };
+    }
+
+    private static Object invoke(Method member, Annotation annotation) {
+        try {
+            return member.invoke(annotation);
+        } catch (Exception e) {
+            throw new ReflectionsException(String.format("could not invoke method %s on annotation %s",
+                                                         member.getName(),
+                                                         annotation.annotationType()), e);
         }
-        return false;
     }
 
+    /**
+     * a predicate with a relative cost, see {@link #and(Predicate[])}
+     */
+    private static final class CostedPredicate<T> implements Predicate<T> {
+        private final int          cost;
+        private final Predicate<T> predicate;
+
+        private CostedPredicate(int cost, Predicate<T> predicate) {
+            this.cost = cost;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean apply(T input) {
+            return predicate.apply(input);
+        }
+    }
+
+    private static Class<?>[] cachedAllSuperTypes(Class<?> type) {
+        AtomicReferenceArray<Object[]> cache  = typeCache.get(type);
+        Class<?>[]                     result = (Class<?>[]) cache.get(ALL_SUPER_TYPES);
+        if (result == null) {
+            Set<Class<?>> superTypes = Sets.newLinkedHashSet();
+            if (includeObject || !type.equals(Object.class)) {
+                superTypes.add(type);
+                for (Class<?> supertype : getSuperTypes(type)) {
+                    superTypes.addAll(Arrays.asList(cachedAllSuperTypes(supertype)));
+                }
+            }
+            result = superTypes.toArray(new Class<?>[0]);
+            cache.set(ALL_SUPER_TYPES, result);
+        }
+        return result;
+    }
+
+    private static Method[] cachedAllMethods(Class<?> type) {
+        AtomicReferenceArray<Object[]> cache  = typeCache.get(type);
+        Method[]                       result = (Method[]) cache.get(ALL_METHODS);
+        if (result == null) {
+            Set<Method> methods = Sets.newLinkedHashSet();
+            for (Class<?> t : cachedAllSuperTypes(type)) {
+                methods.addAll(Arrays.asList(t.isInterface() ? t.getMethods() : t.getDeclaredMethods()));
+            }
+            result = methods.toArray(new Method[0]);
+            cache.set(ALL_METHODS, result);
+        }
+        return result;
+    }
+
+    private static Constructor[] cachedAllConstructors(Class<?> type) {
+        AtomicReferenceArray<Object[]> cache  = typeCache.get(type);
+        Constructor[]                  result = (Constructor[]) cache.get(ALL_CONSTRUCTORS);
+        if (result == null) {
+            Set<Constructor> constructors = Sets.newLinkedHashSet();
+            for (Class<?> t : cachedAllSuperTypes(type)) {
+                constructors.addAll(Arrays.asList(t.getDeclaredConstructors()));
+            }
+            result = constructors.toArray(new Constructor[0]);
+            cache.set(ALL_CONSTRUCTORS, result);
+        }
+        return result;
+    }
+
+    private static Field[] cachedAllFields(Class<?> type) {
+        AtomicReferenceArray<Object[]> cache  = typeCache.get(type);
+        Field[]                        result = (Field[]) cache.get(ALL_FIELDS);
+        if (result == null) {
+            Set<Field> fields = Sets.newLinkedHashSet();
+            for (Class<?> t : cachedAllSuperTypes(type)) {
+                fields.addAll(Arrays.asList(t.getDeclaredFields()));
+            }
+            result = fields.toArray(new Field[0]);
+            cache.set(ALL_FIELDS, result);
+        }
+        return result;
+    }
+
+    private static Annotation[] cachedAllAnnotations(Class<?> type) {
+        AtomicReferenceArray<Object[]> cache  = typeCache.get(type);
+        Annotation[]                   result = (Annotation[]) cache.get(ALL_ANNOTATIONS);
+        if (result == null) {
+            Set<Annotation> annotations = Sets.newLinkedHashSet();
+            for (Class<?> t : cachedAllSuperTypes(type)) {
+                annotations.addAll(Arrays.asList(t.getDeclaredAnnotations()));
+            }
+            result = annotations.toArray(new Annotation[0]);
+            cache.set(ALL_ANNOTATIONS, result);
+        }
+        return result;
+    }
 
     private static boolean isAssignable(Class[] childClasses, Class[] parentClasses) {
         if (childClasses == null) {
@@ -1,14 +1,20 @@
 package org.reflections;
 
+import com.google.common.base.Function;
 import com.google.common.base.Joiner;
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
 import com.google.common.collect.*;
 import com.google.common.collect.Sets.SetView;
+import com.google.common.io.ByteStreams;
+import org.reflections.adapters.MetadataAdapter;
 import org.reflections.scanners.*;
 import org.reflections.scanners.Scanner;
 import org.reflections.serializers.Serializer;
 import org.reflections.serializers.XmlSerializer;
 import org.reflections.util.*;
+import org.reflections.vfs.SystemDir;
+import org.reflections.vfs.SystemFile;
 import org.reflections.vfs.Vfs;
 import org.reflections.vfs.Vfs.Dir;
 import org.slf4j.Logger;
@@ -22,6 +28,7 @@ import java.net.URL;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Predicates.in;
 import static com.google.common.base.Predicates.not;
@@ -102,20 +109,40 @@ public class Reflections {
 
     protected final transient Configuration configuration;
     protected final           Store         store;
+    //the store scanned into and the url and file scanned by this thread, while scanning. scanners may be shared by concurrent instances
+    private static final ThreadLocal<Store>                     scanTarget = new ThreadLocal<>();
+    private static final ThreadLocal<Map.Entry<String, String>> scanSource = new ThreadLocal<>();
+    @Nullable private final transient Queue<Exception> scanFailures;
+    //the executor service an async scan runs on, while running on it
+    private static final ThreadLocal<ExecutorService> scanningAsync = new ThreadLocal<>();
+    private final transient   Set<URL> skippedUrls = Sets.newConcurrentHashSet();
+    private final transient   Set<URL> partialUrls = Sets.newConcurrentHashSet();
+    private final transient   ScanStatistics statistics = new ScanStatistics();
+    @Nullable private transient ReflectionsMetrics metrics;
 
     /**
      * constructs a Reflections instance and scan according to given {@link org.reflections.Configuration}
      * <p>it is preferred to use {@link org.reflections.util.ConfigurationBuilder}
      */
     public Reflections(Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * constructs a Reflections instance and scan according to given {@link org.reflections.Configuration},
+     * adding scan failures to the given {@code scanFailures} if not null, otherwise logging them
+     */
+    private Reflections(Configuration configuration, @Nullable Queue<Exception> scanFailures) {
         this.configuration = configuration;
+        this.scanFailures = scanFailures;
         store = new Store(configuration);
 
         if ((configuration.getScanners() != null) && !configuration.getScanners().isEmpty()) {
             //inject to scanners
             for (Scanner scanner : configuration.getScanners()) {
                 scanner.setConfiguration(configuration);
-                scanner.setStore(store.getOrCreate(index(scanner.getClass())));
+                store.getOrCreate(index(scanner.getClass()));
+                scanner.setStore(new ScanTargetStore(index(scanner.getClass())));
             }
 
             scan();
@@ -124,6 +151,10 @@ public class Reflections {
                 expandSuperTypes();
             }
         }
+
+        if (configuration.shouldRegisterMBean()) {
+            metrics = ReflectionsMetrics.register(this);
+        }
     }
 
     /**
@@ -170,6 +201,115 @@ public class Reflections {
     protected Reflections() {
         configuration = new ConfigurationBuilder();
         store = new Store(configuration);
+        scanFailures = null;
+    }
+
+    /**
+     * creates a copy of the given Reflections instance, with a copy of its store sharing the entries neither instance modified, see {@link Store#Store(Store)}.
+     * the copy keeps the scan statistics and urls of the given instance, and registers its own {@link org.reflections.ReflectionsMXBean} if the given instance did
+     */
+    Reflections(Reflections reflections) {
+        configuration = reflections.configuration;
+        store = new Store(reflections.store);
+        scanFailures = null;
+        skippedUrls.addAll(reflections.skippedUrls);
+        partialUrls.addAll(reflections.partialUrls);
+        statistics.add(reflections.statistics);
+        if (reflections.metrics != null) {
+            metrics = ReflectionsMetrics.register(this);
+        }
+    }
+
+    /**
+     * scans according to the given {@link org.reflections.Configuration} in the background, returning a future of the scanned Reflections instance
+     * <p>the scan runs on the configuration's executor service if exists, such as its virtual threads, otherwise on a new background thread.
+     * when running on a thread of the executor service, that thread also scans urls rather than only waiting for them,
+     * so that the scan makes progress even if the executor service has a single thread.
+     * <p>if files or urls could not be scanned, the future completes exceptionally with a {@link ReflectionsScanException},
+     * holding the failures as suppressed exceptions, and the instance with everything else that was scanned.
+     * <pre>
+     *     CompletableFuture&#60Reflections> future = Reflections.scanAsync(configuration)
+     *         .exceptionally(e -> ((ReflectionsScanException) e.getCause()).getReflections());
+     *     //other startup work...
+     *     Reflections reflections = future.join();
+     * </pre>
+     */
+    public static CompletableFuture<Reflections> scanAsync(Configuration configuration) {
+        ExecutorService                          executorService = configuration.getExecutorService();
+        java.util.function.Supplier<Reflections> scan            = () -> {
+            scanningAsync.set(executorService);
+            try {
+                Reflections reflections = new Reflections(configuration, new ConcurrentLinkedQueue<>());
+                List<Exception> failures = reflections.getScanFailures();
+                if (!failures.isEmpty()) {
+                    throw new ReflectionsScanException(reflections, failures);
+                }
+                return reflections;
+            } finally {
+                scanningAsync.remove();
+            }
+        };
+        if (executorService != null) {
+            return CompletableFuture.supplyAsync(scan, executorService);
+        }
+        return CompletableFuture.supplyAsync(scan, runnable -> {
+            Thread thread = new Thread(runnable, "org.reflections-scan");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * returns the failures of files and urls which could not be scanned by {@link #scanAsync(Configuration)},
+     * for the instance returned by {@link ReflectionsScanException#getReflections()}
+     * <p>instances created by the constructors log such failures instead, and return an empty list
+     */
+    public List<Exception> getScanFailures() {
+        return (scanFailures != null) ? ImmutableList.copyOf(scanFailures) : Collections.emptyList();
+    }
+
+    /**
+     * returns the urls which were not scanned, because the scan was stopped by its deadline or cancellation token before scanning them
+     * <p>see {@link org.reflections.Configuration#getScanTimeoutMillis()} and {@link org.reflections.Configuration#getCancellationToken()}
+     */
+    public Set<URL> getSkippedUrls() {
+        return Collections.unmodifiableSet(skippedUrls);
+    }
+
+    /**
+     * returns the urls which were partially scanned, because the scan was stopped by its deadline or cancellation token while scanning them.
+     * urls abandoned while still being scanned are partial too, and none of their files are in the store
+     * <p>see {@link org.reflections.Configuration#getScanTimeoutMillis()} and {@link org.reflections.Configuration#getCancellationToken()}
+     */
+    public Set<URL> getPartialUrls() {
+        return Collections.unmodifiableSet(partialUrls);
+    }
+
+    /**
+     * returns the statistics of scanning by this instance, such as the time spent per url and per scanner
+     */
+    public ScanStatistics getScanStatistics() {
+        return statistics;
+    }
+
+    /**
+     * returns the name of the registered {@link org.reflections.ReflectionsMXBean} of this instance, or null if not registered
+     */
+    @Nullable
+    public javax.management.ObjectName getMBeanName() {
+        ReflectionsMetrics metrics = this.metrics;
+        return (metrics != null) ? metrics.getName() : null;
+    }
+
+    /**
+     * unregisters the {@link org.reflections.ReflectionsMXBean} of this instance, if registered, and stops recording query metrics
+     */
+    public void unregisterMBean() {
+        ReflectionsMetrics metrics = this.metrics;
+        if (metrics != null) {
+            this.metrics = null;
+            metrics.close();
+        }
     }
 
     //
@@ -185,49 +325,132 @@ public class Reflections {
             log.debug("going to scan these urls:\n{}", Joiner.on("\n").join(configuration.getUrls()));
         }
 
+        ExecutorService executorService     = configuration.getExecutorService();
+        ExecutorService parsingService      = configuration.getParsingExecutorService();
+        //the executor services created for this scan, shut down after it
+        ExecutorService ownedService        = null;
+        ExecutorService ownedParsingService = null;
+        if ((executorService == null) && (configuration.getScanParallelism() > 0)) {
+            if (configuration.shouldUseVirtualThreads()) {
+                ownedService = newVirtualThreadExecutor();
+                if ((ownedService != null) && (parsingService == null)) {
+                    parsingService = ownedParsingService = newParallelExecutor(configuration.getScanParallelism());
+                }
+            }
+            if (ownedService == null) {
+                ownedService = newParallelExecutor(configuration.getScanParallelism());
+            }
+            executorService = ownedService;
+        }
+
         long            time            = System.currentTimeMillis();
+        long            startNanos      = System.nanoTime();
         int             scannedUrls     = 0;
-        ExecutorService executorService = configuration.getExecutorService();
+        ScanContext     context         = new ScanContext(configuration, time, parsingService);
         List<Future<?>> futures         = Lists.newArrayList();
-
-        for (URL url : configuration.getUrls()) {
-            try {
-                if (executorService != null) {
-                    futures.add(executorService.submit(() -> {
-                        if (log != null) {
-                            log.debug("[{}] scanning {}", Thread.currentThread(), url);
+        String          signature       = cacheSignature();
+        UrlScanCache    cache           = ((configuration.getIncrementalScanDir() != null) && (signature != null))
+                                          ? new UrlScanCache(configuration.getIncrementalScanDir(),
+                                                             configuration.shouldHashUrlContents(),
+                                                             signature)
+                                          : null;
+        SharedScanCache sharedCache     = ((configuration.getScanCacheDir() != null) && (signature != null))
+                                          ? new SharedScanCache(configuration.getScanCacheDir(), signature)
+                                          : null;
+
+        //when running on a thread of the executor service, the urls are claimed either by it or by the tasks, true if by a task
+        boolean           helping = (executorService != null) && (scanningAsync.get() == executorService);
+        Map<URL, Boolean> claimed = new ConcurrentHashMap<>();
+        try {
+            CompletionService<Object> completionService = (executorService != null)
+                                                          ? new ExecutorCompletionService<>(executorService)
+                                                          : null;
+            for (URL url : configuration.getUrls()) {
+                if (completionService != null) {
+                    futures.add(completionService.submit(() -> {
+                        if (claimed.putIfAbsent(url, true) == null) {
+                            if (log != null) {
+                                log.debug("[{}] scanning {}", Thread.currentThread(), url);
+                            }
+                            scanUrl(url, cache, sharedCache, context);
                         }
-                        scan(url);
-                    }));
+                    }, null));
                 } else {
-                    scan(url);
+                    scanUrl(url, cache, sharedCache, context);
                 }
                 scannedUrls++;
-            } catch (ReflectionsException e) {
-                if (log != null) {
-                    log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+            }
+
+            if (helping) {
+                //scan the urls not started yet on this thread, rather than holding a thread of the executor service waiting for them
+                for (URL url : configuration.getUrls()) {
+                    if (context.shouldStop()) {
+                        break;
+                    }
+                    if (claimed.putIfAbsent(url, false) == null) {
+                        scanUrl(url, cache, sharedCache, context);
+                    }
+                }
+                int i = 0;
+                for (URL url : configuration.getUrls()) {
+                    Future<?> task = futures.get(i++);
+                    if (Boolean.TRUE.equals(claimed.get(url)) && !await(task, context)) {
+                        break; //stopped, urls still being scanned are abandoned
+                    }
+                }
+            } else {
+                //urls which could not be scanned are reported by scanUrl. other errors, such as of a listener, are rethrown, cancelling the other urls
+                for (int i = 0; i < futures.size(); i++) {
+                    Future<Object> done = context.isBounded() ? poll(completionService, context) : completionService.take();
+                    if (done == null) {
+                        break; //stopped, urls still being scanned are abandoned
+                    }
+                    done.get();
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("interrupted while scanning", e);
+        } catch (ExecutionException e) {
+            throw new ReflectionsException("could not scan", e.getCause());
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            //gracefully shutdown the executor services created for this scan
+            if (ownedService != null) {
+                ownedService.shutdown();
+            }
+            if (ownedParsingService != null) {
+                ownedParsingService.shutdown();
+            }
+            synchronized (store) {
+                context.closed = true;
+            }
         }
 
-        //todo use CompletionService
-        if (executorService != null) {
-            for (Future future : futures) {
-                try {
-                    future.get();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
+        if (context.isStopped()) {
+            for (URL url : configuration.getUrls()) {
+                if (!context.startedUrls.contains(url)) {
+                    skippedUrls.add(url);
+                } else if (!context.doneUrls.contains(url)) {
+                    partialUrls.add(url); //stopped while scanning, or abandoned before its scan was merged
                 }
             }
+            if (log != null) {
+                log.warn(format("Reflections scan was stopped, %d urls were skipped and %d urls were partially scanned",
+                                skippedUrls.size(),
+                                partialUrls.size()));
+            }
         }
 
-        time = System.currentTimeMillis() - time;
-
-        //gracefully shutdown the parallel scanner executor service.
-        if (executorService != null) {
-            executorService.shutdown();
+        if (cache != null) {
+            cache.flush();
         }
 
+        time = System.currentTimeMillis() - time;
+        statistics.addScan(System.nanoTime() - startNanos);
+
         if (log != null) {
             int keys   = 0;
             int values = 0;
@@ -252,41 +475,428 @@ public class Reflections {
                                 values,
                                 ""));
             }
+            if (log.isDebugEnabled()) {
+                log.debug("scan statistics: {}", statistics);
+            }
+        }
+    }
+
+    /**
+     * waits for the next url scanned, or returns null if the scan should stop
+     */
+    @Nullable
+    private static Future<Object> poll(CompletionService<Object> completionService, ScanContext context)
+            throws InterruptedException {
+        while (!context.shouldStop()) {
+            Future<Object> done = completionService.poll(50, TimeUnit.MILLISECONDS);
+            if (done != null) {
+                return done;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * waits for the given url scan, or returns false if the scan should stop
+     */
+    private static boolean await(Future<?> task, ScanContext context) throws InterruptedException, ExecutionException {
+        if (!context.isBounded()) {
+            task.get();
+            return true;
+        }
+        while (!context.shouldStop()) {
+            try {
+                task.get(50, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                //check again whether to stop
+            }
+        }
+        return false;
+    }
+
+    /**
+     * the signature of cached scans, or null if caching is not configured or the configuration can not be cached,
+     * see {@link UrlScanCache#signature(Configuration)}
+     */
+    @Nullable
+    private String cacheSignature() {
+        if ((configuration.getIncrementalScanDir() == null) && (configuration.getScanCacheDir() == null)) {
+            return null;
+        }
+        String signature = UrlScanCache.signature(configuration);
+        if ((signature == null) && (log != null)) {
+            log.warn("scanning without caching, the scanners result filters or inputs filter have no description "
+                     + "which is the same across runs. use FilterBuilder filters in order to cache scans");
+        }
+        return signature;
+    }
+
+    private void scanUrl(URL url,
+                         @Nullable UrlScanCache cache,
+                         @Nullable SharedScanCache sharedCache,
+                         ScanContext context) {
+        if (context.shouldStop()) {
+            return;
+        }
+        context.startedUrls.add(url);
+        if (context.listener != null) {
+            context.listener.urlStarted(url);
+        }
+        long   start = System.nanoTime();
+        Object event = JfrEvents.beginUrlScan();
+        try {
+            scan(url, cache, sharedCache, context);
+        } catch (ReflectionsException e) {
+            if (context.isStopped()) {
+                return; //interrupted by stopping the scan
+            }
+            context.doneUrls.add(url);
+            if (scanFailures != null) {
+                scanFailures.add(e);
+            } else if (log != null) {
+                log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+            }
+        } finally {
+            statistics.addUrl(url, System.nanoTime() - start);
+            if (event != null) {
+                JfrEvents.commitUrlScan(event,
+                                        url.toExternalForm(),
+                                        statistics.getUrlFiles(url),
+                                        statistics.getUrlBytes(url));
+            }
+            if (context.listener != null) {
+                context.listener.urlFinished(url);
+            }
+        }
+    }
+
+    /**
+     * scans the given url, or merges its cached scan result if it did not change since it was cached
+     * <p>when caching, or when the scan is bounded by a deadline or cancellation token, the url is scanned into its own partial store,
+     * which is merged only if the scan was not stopped meanwhile, so that abandoned urls do not modify the store after scanning
+     */
+    private void scan(URL url,
+                      @Nullable UrlScanCache cache,
+                      @Nullable SharedScanCache sharedCache,
+                      ScanContext context) {
+        if ((cache == null) && (sharedCache == null) && !context.isBounded()) {
+            scan(url, context);
+            return;
+        }
+
+        String        fingerprint = (cache != null) ? cache.fingerprint(url) : null;
+        Reflections   partial     = (cache != null) ? cache.read(url, fingerprint) : null;
+        boolean[]     complete    = {true};
+        Reflections[] scanned     = {null};
+        if (partial != null) {
+            if (log != null) {
+                log.debug("using cached scan of unchanged url {}", url);
+            }
+        } else {
+            Supplier<Reflections> scan = () -> {
+                scanned[0] = new Reflections();
+                complete[0] = scanPartial(url, scanned[0], context);
+                if (!complete[0]) {
+                    throw new CancellationException(); //do not cache a partial scan
+                }
+                return scanned[0];
+            };
+            try {
+                partial = (sharedCache != null) ? sharedCache.getOrScan(url, scan) : scan.get();
+                if (cache != null) {
+                    cache.write(url, fingerprint, partial);
+                }
+            } catch (CancellationException e) {
+                partial = scanned[0];
+            }
+        }
+        if ((cache != null) || (sharedCache != null)) {
+            statistics.addCacheLookup(scanned[0] == null);
+        }
+        synchronized (store) {
+            if (context.closed) {
+                return; //abandoned
+            }
+            putAll(partial);
+            if (partial == scanned[0]) {
+                store.addSources(partial.store);
+            } else if (configuration.shouldTrackSources()) {
+                //cached results have no file information, attribute them to the url
+                for (String index : partial.store.keySet()) {
+                    for (Map.Entry<String, String> entry : partial.store.get(index).entries()) {
+                        store.addSource(index, entry.getKey(), entry.getValue(), url.toExternalForm(), null);
+                    }
+                }
+            }
+            if (complete[0]) {
+                context.doneUrls.add(url);
+            }
+        }
+    }
+
+    /**
+     * scans the given url into the given partial Reflections instance, returns false if the scan was stopped before scanning all files
+     */
+    private boolean scanPartial(URL url, Reflections partial, ScanContext context) {
+        scanTarget.set(partial.store);
+        try {
+            return scan(url, context);
+        } finally {
+            scanTarget.remove();
         }
     }
 
     protected void scan(URL url) {
+        scan(url, (ScanContext) null);
+    }
+
+    /**
+     * scans the files of the given url, returns false if the scan was stopped before scanning all files
+     */
+    private boolean scan(URL url, @Nullable ScanContext context) {
         Dir dir = Vfs.fromURL(url);
 
         try {
+            if ((context != null) && (context.parsingService != null)) {
+                return scan(url, dir, context);
+            }
             for (Vfs.File file : dir.getFiles()) {
-                // scan if inputs filter accepts file relative path or fqn
-                Predicate<String> inputsFilter = configuration.getInputsFilter();
-                String            path         = file.getRelativePath();
-                String            fqn          = path.replace('/', '.');
-                if ((inputsFilter == null) || inputsFilter.apply(path) || inputsFilter.apply(fqn)) {
-                    Object classObject = null;
-                    for (Scanner scanner : configuration.getScanners()) {
-                        try {
-                            if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
-                                classObject = scanner.scan(file, classObject);
+                if ((context != null) && context.shouldStop()) {
+                    return false;
+                }
+                //as when pipelined, only files accepted by the inputs filter and a scanner are read and reported
+                String path = file.getRelativePath();
+                if (!acceptsInput(path)) {
+                    statistics.addFile(false);
+                    continue;
+                }
+                if (!scannersAcceptInput(path)) {
+                    statistics.addFile(true);
+                    continue;
+                }
+                CountingFile counting = new CountingFile(file);
+                scan(url, counting);
+                statistics.addRead(url, counting.bytes);
+                if ((context != null) && (context.listener != null)) {
+                    context.listener.fileScanned(url, path, counting.bytes);
+                }
+            }
+            return true;
+        } finally {
+            dir.close();
+        }
+    }
+
+    /**
+     * reads each file of the given url on the current thread, while the previously read file is parsed and scanned on the parsing service.
+     * files of the same url are scanned one at a time, so that the partial store of the url is not written concurrently
+     */
+    private boolean scan(URL url, Dir dir, ScanContext context) {
+        Store     target = scanTarget.get();
+        Future<?> parsed = null;
+        try {
+            for (Vfs.File file : dir.getFiles()) {
+                String path = file.getRelativePath();
+                if (context.shouldStop()) {
+                    return false;
+                }
+                if (!acceptsInput(path)) {
+                    statistics.addFile(false);
+                    continue;
+                }
+                if (!scannersAcceptInput(path)) {
+                    statistics.addFile(true);
+                    continue;
+                }
+                InMemoryFile read = new InMemoryFile(file);
+                statistics.addRead(url, read.bytes.length);
+                if (parsed != null) {
+                    parsed.get();
+                }
+                parsed = context.parsingService.submit(() -> {
+                    if (target != null) {
+                        scanTarget.set(target);
+                    }
+                    try {
+                        scan(url, read);
+                    } finally {
+                        scanTarget.remove();
+                    }
+                    if (context.listener != null) {
+                        context.listener.fileScanned(url, path, read.bytes.length);
+                    }
+                });
+            }
+            if (parsed != null) {
+                parsed.get();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("interrupted while scanning url " + url, e);
+        } catch (ExecutionException e) {
+            throw new ReflectionsException("could not scan url " + url, e.getCause());
+        } catch (IOException e) {
+            throw new ReflectionsException("could not read url " + url, e);
+        } finally {
+            if (parsed != null) {
+                parsed.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * true if the inputs filter accepts the file relative path or fqn
+     */
+    private boolean acceptsInput(String path) {
+        Predicate<String> inputsFilter = configuration.getInputsFilter();
+        return (inputsFilter == null) || inputsFilter.apply(path) || inputsFilter.apply(path.replace('/', '.'));
+    }
+
+    /**
+     * true if any of the scanners accepts the file relative path or fqn
+     */
+    private boolean scannersAcceptInput(String path) {
+        String fqn = path.replace('/', '.');
+        for (Scanner scanner : configuration.getScanners()) {
+            if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scan(URL url, Vfs.File file) {
+        // scan if inputs filter accepts file relative path or fqn
+        String  path     = file.getRelativePath();
+        String  fqn      = path.replace('/', '.');
+        boolean accepted = acceptsInput(path);
+        statistics.addFile(accepted);
+        if (accepted) {
+            //scanners write into the store of this instance, unless scanning into a partial store
+            boolean target = scanTarget.get() == null;
+            if (target) {
+                scanTarget.set(store);
+            }
+            if (configuration.shouldTrackSources()) {
+                scanSource.set(Maps.immutableEntry(url.toExternalForm(), path));
+            }
+            try {
+                Object          classObject     = null;
+                boolean         parsed          = false;
+                MetadataAdapter metadataAdapter = configuration.getMetadataAdapter();
+                for (Scanner scanner : configuration.getScanners()) {
+                    try {
+                        if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
+                            if (!parsed && metadataAdapter.acceptsInput(path)) {
+                                //create the class object up front so that parsing is timed apart from scanners
+                                parsed = true;
+                                long start = System.nanoTime();
+                                try {
+                                    classObject = metadataAdapter.getOrCreateClassObject(file);
+                                } catch (Exception e) {
+                                    //the scanners would fail creating it and report it
+                                } finally {
+                                    statistics.addParse(System.nanoTime() - start);
+                                }
                             }
-                        } catch (Exception e) {
-                            if (log != null) {
-                                // SLF4J will filter out Throwables from the format string arguments.
-                                log.debug("could not scan file {} in url {} with scanner {}",
-                                          file.getRelativePath(),
-                                          url.toExternalForm(),
-                                          scanner.getClass().getSimpleName(),
-                                          e);
+                            long start = System.nanoTime();
+                            try {
+                                classObject = scanner.scan(file, classObject);
+                            } finally {
+                                statistics.addScanner(scanner.getClass(), System.nanoTime() - start);
                             }
                         }
+                    } catch (Exception e) {
+                        statistics.addScannerException(scanner.getClass());
+                        if (scanFailures != null) {
+                            scanFailures.add(new ReflectionsException(format("could not scan file %s in url %s with scanner %s",
+                                                                             path,
+                                                                             url.toExternalForm(),
+                                                                             scanner.getClass().getSimpleName()),
+                                                                      e));
+                        } else if (log != null) {
+                            // SLF4J will filter out Throwables from the format string arguments.
+                            log.debug("could not scan file {} in url {} with scanner {}",
+                                      file.getRelativePath(),
+                                      url.toExternalForm(),
+                                      scanner.getClass().getSimpleName(),
+                                      e);
+                        }
+                    }
+                }
+            } finally {
+                scanSource.remove();
+                if (target) {
+                    scanTarget.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * removes all metadata scanned from the given url, and scans it again
+     * <p>depends on {@link org.reflections.Configuration#shouldTrackSources()}, otherwise {@code ReflectionsException} is thrown.
+     * super types expanded from the url are not removed, see {@link #expandSuperTypes()}
+     */
+    public Reflections reload(URL url) {
+        remove(url);
+        scan(url);
+        return this;
+    }
+
+    /**
+     * removes all metadata scanned from the file with the given relative path within the given url, and scans the file again if it still exists
+     * <p>depends on {@link org.reflections.Configuration#shouldTrackSources()}, otherwise {@code ReflectionsException} is thrown
+     */
+    public Reflections reload(URL url, String relativePath) {
+        remove(url, relativePath);
+        Dir dir = Vfs.fromURL(url);
+        try {
+            if (dir instanceof SystemDir) {
+                File file = new File(dir.getPath(), relativePath);
+                if (file.isFile()) {
+                    scan(url, new SystemFile((SystemDir) dir, file));
+                }
+            } else {
+                for (Vfs.File file : dir.getFiles()) {
+                    if (file.getRelativePath().equals(relativePath)) {
+                        scan(url, file);
                     }
                 }
             }
         } finally {
             dir.close();
         }
+        return this;
+    }
+
+    /**
+     * removes all metadata scanned from the given url, unless also scanned from another url
+     * <p>depends on {@link org.reflections.Configuration#shouldTrackSources()}, otherwise {@code ReflectionsException} is thrown
+     */
+    public Reflections remove(URL url) {
+        checkTrackSources();
+        store.removeSource(url.toExternalForm());
+        return this;
+    }
+
+    /**
+     * removes all metadata scanned from the file with the given relative path within the given url, unless also scanned from another file
+     * <p>depends on {@link org.reflections.Configuration#shouldTrackSources()}, otherwise {@code ReflectionsException} is thrown
+     */
+    public Reflections remove(URL url, String relativePath) {
+        checkTrackSources();
+        store.removeSource(url.toExternalForm(), relativePath);
+        return this;
+    }
+
+    private void checkTrackSources() {
+        if (!configuration.shouldTrackSources()) {
+            throw new ReflectionsException("Sources are not tracked. "
+                                           + "Make sure the configuration tracks sources - new ConfigurationBuilder().setTrackSources(true)");
+        }
     }
 
     /**
@@ -310,6 +920,31 @@ public class Reflections {
     public static Reflections collect(String packagePrefix,
                                       Predicate<String> resourceNameFilter,
                                       @Nullable Serializer... optionalSerializer) {
+        return collectResources(packagePrefix, resourceNameFilter, null, optionalSerializer);
+    }
+
+    /**
+     * collect saved Reflections resources like {@link #collect(String, com.google.common.base.Predicate, org.reflections.serializers.Serializer...)},
+     * de-serializing them concurrently on the given executor service and merging them as they complete.
+     * the executor service is not shut down.
+     * <p>the time taken to read each resource is logged in debug level
+     *
+     * @param optionalSerializer - optionally supply one serializer instance. if not specified or null, {@link org.reflections.serializers.XmlSerializer} will be used
+     */
+    public static Reflections collectParallel(String packagePrefix,
+                                              Predicate<String> resourceNameFilter,
+                                              ExecutorService executorService,
+                                              @Nullable Serializer... optionalSerializer) {
+        if (executorService == null) {
+            throw new ReflectionsException("executorService must not be null, use collect() to read resources one by one");
+        }
+        return collectResources(packagePrefix, resourceNameFilter, executorService, optionalSerializer);
+    }
+
+    private static Reflections collectResources(String packagePrefix,
+                                                Predicate<String> resourceNameFilter,
+                                                @Nullable ExecutorService executorService,
+                                                @Nullable Serializer... optionalSerializer) {
         Serializer serializer = ((optionalSerializer != null) && (optionalSerializer.length == 1))
                                 ? optionalSerializer[0]
                                 : new XmlSerializer();
@@ -321,15 +956,31 @@ public class Reflections {
         long               start       = System.currentTimeMillis();
         Reflections        reflections = new Reflections();
         Iterable<Vfs.File> files       = Vfs.findFiles(urls, packagePrefix, resourceNameFilter);
-        for (Vfs.File file : files) {
-            InputStream inputStream = null;
+        if (executorService != null) {
+            CompletionService<Reflections> completionService = new ExecutorCompletionService<>(executorService);
+            List<Future<Reflections>>      futures           = Lists.newArrayList();
+            for (Vfs.File file : files) {
+                futures.add(completionService.submit(() -> read(serializer, file)));
+            }
             try {
-                inputStream = file.openInputStream();
-                reflections.merge(serializer.read(inputStream));
-            } catch (IOException e) {
-                throw new ReflectionsException("could not merge " + file, e);
+                for (int i = 0; i < futures.size(); i++) {
+                    reflections.merge(completionService.take().get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReflectionsException("interrupted while collecting", e);
+            } catch (ExecutionException e) {
+                throw (e.getCause() instanceof ReflectionsException)
+                      ? (ReflectionsException) e.getCause()
+                      : new ReflectionsException("could not collect", e.getCause());
             } finally {
-                close(inputStream);
+                for (Future<Reflections> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        } else {
+            for (Vfs.File file : files) {
+                reflections.merge(read(serializer, file));
             }
         }
 
@@ -360,16 +1011,38 @@ public class Reflections {
                                 Joiner.on(", ").join(urls)));
             }
         }
+        reflections.statistics.addCollect(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - start));
         return reflections;
     }
 
+    private static Reflections read(Serializer serializer, Vfs.File file) {
+        long        start       = System.currentTimeMillis();
+        Object      event       = JfrEvents.beginCollect();
+        InputStream inputStream = null;
+        try {
+            inputStream = file.openInputStream();
+            Reflections reflections = serializer.read(inputStream);
+            JfrEvents.commitCollect(event, file.getRelativePath());
+            if (log != null) {
+                log.debug("Reflections took {} ms to read {}", System.currentTimeMillis() - start, file);
+            }
+            return reflections;
+        } catch (IOException e) {
+            throw new ReflectionsException("could not merge " + file, e);
+        } finally {
+            close(inputStream);
+        }
+    }
+
     /**
      * merges saved Reflections resources from the given input stream, using the serializer configured in this instance's Configuration
      * <br> useful if you know the serialized resource location and prefer not to look it up the classpath
      */
     public Reflections collect(InputStream inputStream) {
+        long start = System.nanoTime();
         try {
             merge(configuration.getSerializer().read(inputStream));
+            statistics.addCollect(System.nanoTime() - start);
             if (log != null) {
                 log.info("Reflections collected metadata from input stream using serializer "
                          + configuration.getSerializer().getClass().getName());
@@ -399,25 +1072,40 @@ public class Reflections {
 
     /**
      * merges a Reflections instance metadata into this instance
+     * <p>when tracking sources, the merged entries are not removed along with sources which also contributed them, see {@link #remove(URL)}
      */
     public Reflections merge(Reflections reflections) {
-        if (reflections.store != null) {
+        putAll(reflections);
+        if ((reflections.store != null) && configuration.shouldTrackSources()) {
             for (String indexName : reflections.store.keySet()) {
-                Multimap<String, String> index = reflections.store.get(indexName);
-                for (String key : index.keySet()) {
-                    for (String string : index.get(key)) {
-                        store.getOrCreate(indexName).put(key, string);
-                    }
+                for (Map.Entry<String, String> entry : reflections.store.get(indexName).entries()) {
+                    store.addReference(indexName, entry.getKey(), entry.getValue());
                 }
             }
         }
         return this;
     }
 
+    /**
+     * puts the entries of the given instance into this instance, without recording them as sourced or unsourced
+     */
+    private void putAll(Reflections reflections) {
+        if (reflections.store != null) {
+            for (String indexName : reflections.store.keySet()) {
+                Multimap<String, String> index  = reflections.store.get(indexName);
+                Multimap<String, String> target = store.getOrCreate(indexName);
+                for (Map.Entry<String, Collection<String>> entry : index.asMap().entrySet()) {
+                    target.putAll(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
     /**
      * expand super types after scanning, for super types that were not scanned.
      * this is helpful in finding the transitive closure without scanning all 3rd party dependencies.
-     * it uses {@link ReflectionUtils#getSuperTypes(Class)}.
+     * it uses {@link ReflectionUtils#getSuperTypes(Class)}, or if {@link Configuration#shouldExpandSuperTypesFromClassFiles()},
+     * reads the super types from class files using {@link org.reflections.util.ClassFileSuperTypes} without loading classes.
      * <p>
      * for example, for classes A,B,C where A supertype of B, B supertype of C:
      * <ul>
@@ -430,13 +1118,87 @@ public class Reflections {
             Multimap<String, String> mmap   = store.get(index(SubTypesScanner.class));
             SetView<String>          keys   = Sets.difference(mmap.keySet(), Sets.newHashSet(mmap.values()));
             Multimap<String, String> expand = HashMultimap.create();
-            for (String key : keys) {
-                Class<?> type = forName(key, loaders());
-                if (type != null) {
-                    expandSupertypes(expand, key, type);
+            if (configuration.shouldExpandSuperTypesFromClassFiles()) {
+                expandSupertypesFromClassFiles(expand, keys);
+            } else {
+                for (String key : keys) {
+                    Class<?> type = forName(key, loaders());
+                    if (type != null) {
+                        expandSupertypes(expand, key, type);
+                    }
+                }
+            }
+            for (Map.Entry<String, String> entry : expand.entries()) {
+                if (mmap.put(entry.getKey(), entry.getValue()) && configuration.shouldTrackSources()) {
+                    store.addReference(index(SubTypesScanner.class), entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * reads the super types of the given types from their class files, omitting types whose class files were not found
+     */
+    private Map<String, List<String>> readSuperTypes(Collection<String> types, @Nullable ExecutorService executorService) {
+        Map<String, List<String>> superTypes = new HashMap<>();
+        if (executorService == null) {
+            for (String type : types) {
+                List<String> typeSuperTypes = ClassFileSuperTypes.getSuperTypes(type, loaders());
+                if (typeSuperTypes != null) {
+                    superTypes.put(type, typeSuperTypes);
                 }
             }
-            mmap.putAll(expand);
+            return superTypes;
+        }
+        Map<String, Future<List<String>>> futures = new LinkedHashMap<>();
+        for (String type : types) {
+            futures.put(type, executorService.submit(() -> ClassFileSuperTypes.getSuperTypes(type, loaders())));
+        }
+        try {
+            for (Map.Entry<String, Future<List<String>>> future : futures.entrySet()) {
+                List<String> typeSuperTypes = future.getValue().get();
+                if (typeSuperTypes != null) {
+                    superTypes.put(future.getKey(), typeSuperTypes);
+                }
+            }
+            return superTypes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("interrupted while expanding super types", e);
+        } catch (ExecutionException e) {
+            throw new ReflectionsException("could not expand super types", e.getCause());
+        } finally {
+            for (Future<List<String>> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * expands the given types level by level, reading the class files of each level on the configured executor service if any, otherwise sequentially
+     */
+    private void expandSupertypesFromClassFiles(Multimap<String, String> mmap, Set<String> keys) {
+        //when scanning async on the executor service, its threads may all be waiting for this one
+        ExecutorService    executorService = (scanningAsync.get() == null) ? configuration.getExecutorService() : null;
+        Set<String>        visited         = Sets.newHashSet(keys);
+        Collection<String> types           = ImmutableList.copyOf(keys);
+        while (!types.isEmpty()) {
+            Map<String, List<String>> superTypes = readSuperTypes(types, executorService);
+
+            List<String> next = new ArrayList<>();
+            for (String type : types) {
+                for (String supertype : superTypes.getOrDefault(type, Collections.emptyList())) {
+                    if (mmap.put(supertype, type)) {
+                        if (log != null) {
+                            log.debug("expanded subtype {} -> {}", supertype, type);
+                        }
+                        if (visited.add(supertype)) {
+                            next.add(supertype);
+                        }
+                    }
+                }
+            }
+            types = next;
         }
     }
 
@@ -458,8 +1220,10 @@ public class Reflections {
      * <p>depends on SubTypesScanner configured
      */
     public <T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
-        return Sets.newHashSet(forNames(store.getAll(index(SubTypesScanner.class),
-                                                     Collections.singletonList(type.getName())), loaders()));
+        return query("getSubTypesOf",
+                     () -> Sets.newHashSet(forNames(store.getAll(index(SubTypesScanner.class),
+                                                                  Collections.singletonList(type.getName())),
+                                                    loaders())));
     }
 
     /**
@@ -471,7 +1235,7 @@ public class Reflections {
      * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
-        return getTypesAnnotatedWith(annotation, false);
+        return query("getTypesAnnotatedWith", () -> typesAnnotatedWith(annotation, false));
     }
 
     /**
@@ -484,6 +1248,10 @@ public class Reflections {
      * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, boolean honorInherited) {
+        return query("getTypesAnnotatedWith", () -> typesAnnotatedWith(annotation, honorInherited));
+    }
+
+    private Set<Class<?>> typesAnnotatedWith(Class<? extends Annotation> annotation, boolean honorInherited) {
         Iterable<String> annotated = store.get(index(TypeAnnotationsScanner.class), annotation.getName());
         Iterable<String> classes = getAllAnnotated(annotated,
                                                    annotation.isAnnotationPresent(Inherited.class),
@@ -497,7 +1265,7 @@ public class Reflections {
      * <p>depends on TypeAnnotationsScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(Annotation annotation) {
-        return getTypesAnnotatedWith(annotation, false);
+        return query("getTypesAnnotatedWith", () -> typesAnnotatedWith(annotation, false));
     }
 
     /**
@@ -506,16 +1274,65 @@ public class Reflections {
      * <p>depends on TypeAnnotationsScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(Annotation annotation, boolean honorInherited) {
+        return query("getTypesAnnotatedWith", () -> typesAnnotatedWith(annotation, honorInherited));
+    }
+
+    private Set<Class<?>> typesAnnotatedWith(Annotation annotation, boolean honorInherited) {
         Iterable<String> annotated = store.get(index(TypeAnnotationsScanner.class),
                                                annotation.annotationType().getName());
-        Iterable<Class<?>> filter = filter(forNames(annotated, loaders()), withAnnotation(annotation));
-        Iterable<String> classes = getAllAnnotated(names(filter),
+        Set<String> matching = withAnnotationValues(annotation, annotated, input -> forName(input, loaders()));
+        Iterable<String> classes = getAllAnnotated(matching,
                                                    annotation.annotationType().isAnnotationPresent(Inherited.class),
                                                    honorInherited);
-        return Sets.newHashSet(concat(filter,
+        return Sets.newHashSet(concat(forNames(matching, loaders()),
                                       forNames(filter(classes, not(in(Sets.newHashSet(annotated)))), loaders())));
     }
 
+    /**
+     * the given annotated elements whose annotation member values match the given annotation.
+     * <p>if AnnotationValuesScanner is configured, elements are matched by its index, and only elements not in it are resolved
+     * using the given function and matched by {@link org.reflections.ReflectionUtils#withAnnotation(java.lang.annotation.Annotation)}
+     */
+    private Set<String> withAnnotationValues(Annotation annotation,
+                                             Iterable<String> annotated,
+                                             Function<String, AnnotatedElement> resolve) {
+        Set<String>         result     = Sets.newHashSet();
+        List<String>        unresolved = Lists.newArrayList(annotated);
+        Map<String, String> values     = AnnotationValues.encode(annotation);
+        if ((values != null) && store.keySet().contains(index(AnnotationValuesScanner.class))) {
+            Multimap<String, String> mmap    = store.get(index(AnnotationValuesScanner.class));
+            String                   type    = annotation.annotationType().getName();
+            Collection<String>       indexed = mmap.get(type);
+            for (String element : annotated) {
+                if (indexed.contains(element)) {
+                    result.add(element);
+                }
+            }
+            unresolved.removeAll(result);
+
+            for (Method member : annotation.annotationType().getDeclaredMethods()) {
+                String             value        = values.get(member.getName());
+                Collection<String> matching     = mmap.get(AnnotationValues.key(type, member.getName(), value));
+                Object             defaultValue = member.getDefaultValue();
+                if ((defaultValue != null) && value.equals(AnnotationValues.encode(defaultValue))) {
+                    //elements not setting the member explicitly match as well
+                    Collection<String> explicit = mmap.get(AnnotationValues.key(type, member.getName()));
+                    result.removeIf(element -> !matching.contains(element) && explicit.contains(element));
+                } else {
+                    result.removeIf(element -> !matching.contains(element));
+                }
+            }
+        }
+
+        Predicate<AnnotatedElement> withAnnotation = withAnnotation(annotation);
+        for (String element : unresolved) {
+            if (withAnnotation.apply(resolve.apply(element))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
     protected Iterable<String> getAllAnnotated(Iterable<String> annotated, boolean inherited, boolean honorInherited) {
         if (honorInherited) {
             if (inherited) {
@@ -539,6 +1356,10 @@ public class Reflections {
      * <p/>depends on MethodAnnotationsScanner configured
      */
     public Set<Method> getMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return query("getMethodsAnnotatedWith", () -> methodsAnnotatedWith(annotation));
+    }
+
+    private Set<Method> methodsAnnotatedWith(Class<? extends Annotation> annotation) {
         Iterable<String> methods = store.get(index(MethodAnnotationsScanner.class), annotation.getName());
         return getMethodsFromDescriptors(methods, loaders());
     }
@@ -548,39 +1369,50 @@ public class Reflections {
      * <p/>depends on MethodAnnotationsScanner configured
      */
     public Set<Method> getMethodsAnnotatedWith(Annotation annotation) {
-        return filter(getMethodsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        return query("getMethodsAnnotatedWith",
+                     () -> getMethodsFromDescriptors(withAnnotationValues(annotation,
+                                                                          membersAnnotatedWith(annotation, false),
+                                                                          this::member),
+                                                     loaders()));
     }
 
     /**
      * get methods with parameter types matching given {@code types}
      */
     public Set<Method> getMethodsMatchParams(Class<?>... types) {
-        return getMethodsFromDescriptors(store.get(index(MethodParameterScanner.class), names(types).toString()),
-                                         loaders());
+        return query("getMethodsMatchParams",
+                     () -> getMethodsFromDescriptors(store.get(index(MethodParameterScanner.class),
+                                                               names(types).toString()), loaders()));
     }
 
     /**
      * get methods with return type match given type
      */
     public Set<Method> getMethodsReturn(Class returnType) {
-        return getMethodsFromDescriptors(store.get(index(MethodParameterScanner.class), names(returnType)), loaders());
+        return query("getMethodsReturn",
+                     () -> getMethodsFromDescriptors(store.get(index(MethodParameterScanner.class), names(returnType)),
+                                                     loaders()));
     }
 
     /**
      * get methods with any parameter annotated with given annotation
      */
     public Set<Method> getMethodsWithAnyParamAnnotated(Class<? extends Annotation> annotation) {
+        return query("getMethodsWithAnyParamAnnotated", () -> methodsWithAnyParamAnnotated(annotation));
+    }
+
+    private Set<Method> methodsWithAnyParamAnnotated(Class<? extends Annotation> annotation) {
         return getMethodsFromDescriptors(store.get(index(MethodParameterScanner.class), annotation.getName()),
                                          loaders());
-
     }
 
     /**
      * get methods with any parameter annotated with given annotation, including annotation member values matching
      */
     public Set<Method> getMethodsWithAnyParamAnnotated(Annotation annotation) {
-        return filter(getMethodsWithAnyParamAnnotated(annotation.annotationType()),
-                      withAnyParameterAnnotation(annotation));
+        return query("getMethodsWithAnyParamAnnotated",
+                     () -> filter(methodsWithAnyParamAnnotated(annotation.annotationType()),
+                                  withAnyParameterAnnotation(annotation)));
     }
 
     /**
@@ -588,6 +1420,10 @@ public class Reflections {
      * <p>depends on MethodAnnotationsScanner configured
      */
     public Set<Constructor> getConstructorsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return query("getConstructorsAnnotatedWith", () -> constructorsAnnotatedWith(annotation));
+    }
+
+    private Set<Constructor> constructorsAnnotatedWith(Class<? extends Annotation> annotation) {
         Iterable<String> methods = store.get(index(MethodAnnotationsScanner.class), annotation.getName());
         return getConstructorsFromDescriptors(methods, loaders());
     }
@@ -597,21 +1433,39 @@ public class Reflections {
      * <p>depends on MethodAnnotationsScanner configured
      */
     public Set<Constructor> getConstructorsAnnotatedWith(Annotation annotation) {
-        return filter(getConstructorsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        return query("getConstructorsAnnotatedWith",
+                     () -> getConstructorsFromDescriptors(withAnnotationValues(annotation,
+                                                                               membersAnnotatedWith(annotation, true),
+                                                                               this::member),
+                                                          loaders()));
+    }
+
+    private Iterable<String> membersAnnotatedWith(Annotation annotation, boolean constructors) {
+        return Iterables.filter(store.get(index(MethodAnnotationsScanner.class), annotation.annotationType().getName()),
+                                (Predicate<String>) input -> isConstructor(input) == constructors);
+    }
+
+    private AnnotatedElement member(String descriptor) {
+        return (AnnotatedElement) getMemberFromDescriptor(descriptor, loaders());
     }
 
     /**
      * get constructors with parameter types matching given {@code types}
      */
     public Set<Constructor> getConstructorsMatchParams(Class<?>... types) {
-        return getConstructorsFromDescriptors(store.get(index(MethodParameterScanner.class), names(types).toString()),
-                                              loaders());
+        return query("getConstructorsMatchParams",
+                     () -> getConstructorsFromDescriptors(store.get(index(MethodParameterScanner.class),
+                                                                    names(types).toString()), loaders()));
     }
 
     /**
      * get constructors with any parameter annotated with given annotation
      */
     public Set<Constructor> getConstructorsWithAnyParamAnnotated(Class<? extends Annotation> annotation) {
+        return query("getConstructorsWithAnyParamAnnotated", () -> constructorsWithAnyParamAnnotated(annotation));
+    }
+
+    private Set<Constructor> constructorsWithAnyParamAnnotated(Class<? extends Annotation> annotation) {
         return getConstructorsFromDescriptors(store.get(index(MethodParameterScanner.class), annotation.getName()),
                                               loaders());
     }
@@ -620,8 +1474,9 @@ public class Reflections {
      * get constructors with any parameter annotated with given annotation, including annotation member values matching
      */
     public Set<Constructor> getConstructorsWithAnyParamAnnotated(Annotation annotation) {
-        return filter(getConstructorsWithAnyParamAnnotated(annotation.annotationType()),
-                      withAnyParameterAnnotation(annotation));
+        return query("getConstructorsWithAnyParamAnnotated",
+                     () -> filter(constructorsWithAnyParamAnnotated(annotation.annotationType()),
+                                  withAnyParameterAnnotation(annotation)));
     }
 
     /**
@@ -629,6 +1484,10 @@ public class Reflections {
      * <p>depends on FieldAnnotationsScanner configured
      */
     public Set<Field> getFieldsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return query("getFieldsAnnotatedWith", () -> fieldsAnnotatedWith(annotation));
+    }
+
+    private Set<Field> fieldsAnnotatedWith(Class<? extends Annotation> annotation) {
         Set<Field> result = Sets.newHashSet();
         for (String annotated : store.get(index(FieldAnnotationsScanner.class), annotation.getName())) {
             result.add(getFieldFromString(annotated, loaders()));
@@ -641,7 +1500,16 @@ public class Reflections {
      * <p>depends on FieldAnnotationsScanner configured
      */
     public Set<Field> getFieldsAnnotatedWith(Annotation annotation) {
-        return filter(getFieldsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        return query("getFieldsAnnotatedWith", () -> {
+            Set<Field> result = Sets.newHashSet();
+            for (String field : withAnnotationValues(annotation,
+                                                     store.get(index(FieldAnnotationsScanner.class),
+                                                               annotation.annotationType().getName()),
+                                                     input -> getFieldFromString(input, loaders()))) {
+                result.add(getFieldFromString(field, loaders()));
+            }
+            return result;
+        });
     }
 
     /**
@@ -649,6 +1517,10 @@ public class Reflections {
      * <p>depends on ResourcesScanner configured
      */
     public Set<String> getResources(Predicate<String> namePredicate) {
+        return query("getResources", () -> resources(namePredicate));
+    }
+
+    private Set<String> resources(Predicate<String> namePredicate) {
         Iterable<String> resources = Iterables.filter(store.get(index(ResourcesScanner.class)).keySet(), namePredicate);
         return Sets.newHashSet(store.get(index(ResourcesScanner.class), resources));
     }
@@ -659,7 +1531,7 @@ public class Reflections {
      * <pre>Set&lt;String> xmls = reflections.getResources(".*\\.xml");</pre>
      */
     public Set<String> getResources(Pattern pattern) {
-        return getResources(input -> pattern.matcher(input).matches());
+        return query("getResources", () -> resources(input -> pattern.matcher(input).matches()));
     }
 
     /**
@@ -667,10 +1539,7 @@ public class Reflections {
      * <p>depends on MethodParameterNamesScanner configured
      */
     public List<String> getMethodParamNames(Method method) {
-        Iterable<String> names = store.get(index(MethodParameterNamesScanner.class), name(method));
-        return Iterables.isEmpty(names)
-               ? Collections.emptyList()
-               : Arrays.asList(Iterables.getOnlyElement(names).split(", "));
+        return query("getMethodParamNames", () -> paramNames(name(method)));
     }
 
     /**
@@ -678,7 +1547,11 @@ public class Reflections {
      * <p>depends on MethodParameterNamesScanner configured
      */
     public List<String> getConstructorParamNames(Constructor constructor) {
-        Iterable<String> names = store.get(index(MethodParameterNamesScanner.class), name(constructor));
+        return query("getConstructorParamNames", () -> paramNames(name(constructor)));
+    }
+
+    private List<String> paramNames(String member) {
+        Iterable<String> names = store.get(index(MethodParameterNamesScanner.class), member);
         return Iterables.isEmpty(names)
                ? Collections.emptyList()
                : Arrays.asList(Iterables.getOnlyElement(names).split(", "));
@@ -689,7 +1562,8 @@ public class Reflections {
      * <p>depends on MemberUsageScanner configured
      */
     public Set<Member> getFieldUsage(Field field) {
-        return getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(field)));
+        return query("getFieldUsage",
+                     () -> getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(field))));
     }
 
     /**
@@ -697,7 +1571,8 @@ public class Reflections {
      * <p>depends on MemberUsageScanner configured
      */
     public Set<Member> getMethodUsage(Method method) {
-        return getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(method)));
+        return query("getMethodUsage",
+                     () -> getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(method))));
     }
 
     /**
@@ -705,7 +1580,162 @@ public class Reflections {
      * <p>depends on MemberUsageScanner configured
      */
     public Set<Member> getConstructorUsage(Constructor constructor) {
-        return getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(constructor)));
+        return query("getConstructorUsage",
+                     () -> getMembersFromDescriptors(store.get(index(MemberUsageScanner.class), name(constructor))));
+    }
+
+    //query names, without loading classes
+
+    /**
+     * gets the names of all sub types in hierarchy of a given type name, without loading classes
+     * <p>depends on SubTypesScanner configured
+     */
+    public Set<String> getSubTypeNamesOf(String type) {
+        return query("getSubTypeNamesOf",
+                     () -> Sets.newHashSet(store.getAll(index(SubTypesScanner.class), Collections.singletonList(type))));
+    }
+
+    /**
+     * get the names of types annotated with a given annotation name, both classes and annotations, without loading classes
+     * <p>{@link java.lang.annotation.Inherited} is not honored, same as {@link #getTypesAnnotatedWith(Class)}
+     * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public Set<String> getTypeNamesAnnotatedWith(String annotation) {
+        return query("getTypeNamesAnnotatedWith",
+                     () -> Sets.newHashSet(getAllAnnotated(store.get(index(TypeAnnotationsScanner.class), annotation),
+                                                           false,
+                                                           false)));
+    }
+
+    /**
+     * get the descriptors of all methods annotated with a given annotation name, without loading classes
+     * <p>descriptors are of the form {@code org.Foo.method(java.lang.String, int[])}, see {@link org.reflections.util.Utils#getMemberFromDescriptor(String, ClassLoader...)}
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public Set<String> getMethodNamesAnnotatedWith(String annotation) {
+        return query("getMethodNamesAnnotatedWith",
+                     () -> Sets.newHashSet(Iterables.filter(store.get(index(MethodAnnotationsScanner.class),
+                                                                      annotation),
+                                                            (Predicate<String>) input -> !isConstructor(input))));
+    }
+
+    /**
+     * get the descriptors of all constructors annotated with a given annotation name, without loading classes
+     * <p>descriptors are of the form {@code org.Foo.<init>(java.lang.String)}, see {@link org.reflections.util.Utils#getMemberFromDescriptor(String, ClassLoader...)}
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public Set<String> getConstructorNamesAnnotatedWith(String annotation) {
+        return query("getConstructorNamesAnnotatedWith",
+                     () -> Sets.newHashSet(Iterables.filter(store.get(index(MethodAnnotationsScanner.class),
+                                                                      annotation),
+                                                            (Predicate<String>) Utils::isConstructor)));
+    }
+
+    /**
+     * get the names of all fields annotated with a given annotation name, without loading classes
+     * <p>names are of the form {@code org.Foo.field}, see {@link org.reflections.util.Utils#getFieldFromString(String, ClassLoader...)}
+     * <p>depends on FieldAnnotationsScanner configured
+     */
+    public Set<String> getFieldNamesAnnotatedWith(String annotation) {
+        return query("getFieldNamesAnnotatedWith",
+                     () -> Sets.newHashSet(store.get(index(FieldAnnotationsScanner.class), annotation)));
+    }
+
+    /**
+     * get the descriptors of all methods and constructors using a given member, without loading classes
+     * <p>the member is given by its name as returned by {@link org.reflections.util.Utils#name(Field)},
+     * {@link org.reflections.util.Utils#name(Method)} or {@link org.reflections.util.Utils#name(Constructor)}.
+     * each descriptor is followed by the line number of the usage, such as {@code org.Foo.method() #12}
+     * <p>depends on MemberUsageScanner configured
+     */
+    public Set<String> getUsageNames(String member) {
+        return query("getUsageNames", () -> Sets.newHashSet(store.get(index(MemberUsageScanner.class), member)));
+    }
+
+    //composed queries
+
+    /**
+     * get the names of types matching the given composed query, without loading classes
+     * <p>see {@link org.reflections.TypeQuery}
+     */
+    public Set<String> getTypeNames(TypeQuery query) {
+        return query("getTypeNames", () -> query.evaluate(store));
+    }
+
+    /**
+     * get types matching the given composed query, resolving only the types of the final result
+     * <pre>
+     *     Set&#60Class&#60?>> handlers = reflections.getTypes(subTypesOf(Handler.class).and(annotatedWith(Component.class)));
+     * </pre>
+     * <p>see {@link org.reflections.TypeQuery}
+     */
+    public Set<Class<?>> getTypes(TypeQuery query) {
+        return query("getTypes",
+                     () -> Sets.newHashSet(ReflectionUtils.<Object>forNames(query.evaluate(store), loaders())));
+    }
+
+    //query lazily, resolving classes on demand
+
+    /**
+     * lazily gets all sub types in hierarchy of a given type
+     * <p>the store is walked and classes are resolved only as the stream is consumed, so that short-circuiting operations such as
+     * {@code findFirst} do not resolve the whole result. the stream may be consumed in parallel
+     * <pre>
+     *     Optional&#60Class&#60? extends Plugin>> plugin = reflections.streamSubTypesOf(Plugin.class).filter(...).findFirst();
+     * </pre>
+     * <p>depends on SubTypesScanner configured
+     */
+    public <T> Stream<Class<? extends T>> streamSubTypesOf(Class<T> type) {
+        return resolve(store.streamAll(index(SubTypesScanner.class), type.getName()));
+    }
+
+    /**
+     * lazily gets types annotated with a given annotation, both classes and annotations
+     * <p>{@link java.lang.annotation.Inherited} is not honored, same as {@link #getTypesAnnotatedWith(Class)}
+     * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public Stream<Class<?>> streamTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+        Stream<String> annotated = store.streamAll(index(TypeAnnotationsScanner.class), annotation.getName());
+        return resolve(store.streamAllIncluding(index(SubTypesScanner.class), annotated));
+    }
+
+    /**
+     * lazily gets all methods annotated with a given annotation
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public Stream<Method> streamMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return streamValues(index(MethodAnnotationsScanner.class), annotation.getName())
+                .filter(descriptor -> !isConstructor(descriptor))
+                .map(descriptor -> (Method) getMemberFromDescriptor(descriptor, loaders()));
+    }
+
+    /**
+     * lazily gets all constructors annotated with a given annotation
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public Stream<Constructor> streamConstructorsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return streamValues(index(MethodAnnotationsScanner.class), annotation.getName())
+                .filter(Utils::isConstructor)
+                .map(descriptor -> (Constructor) getMemberFromDescriptor(descriptor, loaders()));
+    }
+
+    /**
+     * lazily gets all fields annotated with a given annotation
+     * <p>depends on FieldAnnotationsScanner configured
+     */
+    public Stream<Field> streamFieldsAnnotatedWith(Class<? extends Annotation> annotation) {
+        return streamValues(index(FieldAnnotationsScanner.class), annotation.getName())
+                .map(field -> getFieldFromString(field, loaders()));
+    }
+
+    private Stream<String> streamValues(String index, String key) {
+        return ImmutableList.copyOf(store.get(index, key)).stream();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Stream<Class<? extends T>> resolve(Stream<String> names) {
+        return names.<Class<? extends T>>map(name -> (Class<? extends T>) forName(name, loaders()))
+                    .filter(Objects::nonNull);
     }
 
     /**
@@ -717,7 +1747,9 @@ public class Reflections {
      * @return Set of String, and not of Class, in order to avoid definition of all types in PermGen
      */
     public Set<String> getAllTypes() {
-        Set<String> allTypes = Sets.newHashSet(store.getAll(index(SubTypesScanner.class), Object.class.getName()));
+        Set<String> allTypes = query("getAllTypes",
+                                     () -> Sets.newHashSet(store.getAll(index(SubTypesScanner.class),
+                                                                        Object.class.getName())));
         if (allTypes.isEmpty()) {
             throw new ReflectionsException("Couldn't find subtypes of Object. "
                                            + "Make sure SubTypesScanner initialized to include Object class - new SubTypesScanner(false)");
@@ -725,6 +1757,21 @@ public class Reflections {
         return allTypes;
     }
 
+    /**
+     * runs the given query of the given query method, emitting a jfr event if recording, and recording its latency if the MBean is registered
+     */
+    private <R extends Collection<?>> R query(String method, Supplier<R> query) {
+        ReflectionsMetrics metrics = this.metrics;
+        long               start   = (metrics != null) ? System.nanoTime() : 0;
+        Object             event   = JfrEvents.beginQuery();
+        R                  result  = query.get();
+        JfrEvents.commitQuery(event, method, result.size());
+        if (metrics != null) {
+            metrics.recordQuery(method, System.nanoTime() - start);
+        }
+        return result;
+    }
+
     /**
      * returns the {@link org.reflections.Store} used for storing and querying the metadata
      */
@@ -765,4 +1812,232 @@ public class Reflections {
     }
 
     private ClassLoader[] loaders() { return configuration.getClassLoaders(); }
+
+    /**
+     * the store view given to scanners, writing into the store currently scanned into by this thread if any,
+     * otherwise into this instance's store.
+     * scanners are rebound by each instance created with them, and writes while scanning do not depend on which instance bound them last
+     */
+    private class ScanTargetStore extends ForwardingMultimap<String, String> {
+
+        private final String index;
+
+        private ScanTargetStore(String index) {
+            this.index = index;
+        }
+
+        @Override
+        protected Multimap<String, String> delegate() {
+            return target().getOrCreate(index);
+        }
+
+        @Override
+        public boolean put(String key, String value) {
+            Store                     target = target();
+            boolean                   result = target.getOrCreate(index).put(key, value);
+            Map.Entry<String, String> source = scanSource.get();
+            if (source != null) {
+                //recorded along with the entry, and merged with it if scanned into a partial store
+                target.addSource(index, key, value, source.getKey(), source.getValue());
+            }
+            return result;
+        }
+
+        //the other mutators put through put, so that sources are recorded for every entry
+
+        @Override
+        public boolean putAll(String key, Iterable<? extends String> values) {
+            boolean changed = false;
+            for (String value : values) {
+                changed |= put(key, value);
+            }
+            return changed;
+        }
+
+        @Override
+        public boolean putAll(Multimap<? extends String, ? extends String> multimap) {
+            boolean changed = false;
+            for (Map.Entry<? extends String, ? extends String> entry : multimap.entries()) {
+                changed |= put(entry.getKey(), entry.getValue());
+            }
+            return changed;
+        }
+
+        @Override
+        public Collection<String> replaceValues(String key, Iterable<? extends String> values) {
+            Collection<String> previous = ImmutableSet.copyOf(removeAll(key));
+            putAll(key, values);
+            return previous;
+        }
+
+        @Override
+        public Collection<String> get(String key) {
+            return new ForwardingCollection<String>() {
+                @Override
+                protected Collection<String> delegate() {
+                    return ScanTargetStore.this.delegate().get(key);
+                }
+
+                @Override
+                public boolean add(String value) {
+                    return put(key, value);
+                }
+
+                @Override
+                public boolean addAll(Collection<? extends String> values) {
+                    return putAll(key, values);
+                }
+            };
+        }
+
+        @Override
+        public Map<String, Collection<String>> asMap() {
+            return Maps.transformEntries(delegate().asMap(), (key, values) -> get(key));
+        }
+
+        private Store target() {
+            Store target = scanTarget.get();
+            return (target != null) ? target : store;
+        }
+    }
+
+    /**
+     * the state of a single scan: its parsing service, listener, deadline and cancellation token, and the urls started and done scanning
+     */
+    private static class ScanContext {
+
+        @Nullable private final ExecutorService   parsingService;
+        @Nullable private final ScanListener      listener;
+        @Nullable private final CancellationToken cancellationToken;
+        private final           long              deadline;
+        private final           Set<URL>          startedUrls = Sets.newConcurrentHashSet();
+        private final           Set<URL>          doneUrls    = Sets.newConcurrentHashSet();
+        private volatile        boolean           stopped;
+        private                 boolean           closed; //guarded by the store
+
+        private ScanContext(Configuration configuration, long start, @Nullable ExecutorService parsingService) {
+            this.parsingService = parsingService;
+            listener = configuration.getScanListener();
+            cancellationToken = configuration.getCancellationToken();
+            deadline = (configuration.getScanTimeoutMillis() > 0)
+                       ? start + configuration.getScanTimeoutMillis()
+                       : Long.MAX_VALUE;
+        }
+
+        private boolean isBounded() {
+            return (deadline != Long.MAX_VALUE) || (cancellationToken != null);
+        }
+
+        private boolean shouldStop() {
+            if (!stopped && (((cancellationToken != null) && cancellationToken.isCancelled())
+                             || (System.currentTimeMillis() > deadline))) {
+                stopped = true;
+            }
+            return stopped;
+        }
+
+        private boolean isStopped() {
+            return stopped;
+        }
+    }
+
+    /**
+     * a file which counts the bytes read from it
+     */
+    private static class CountingFile implements Vfs.File {
+
+        private final Vfs.File file;
+        private       long     bytes;
+
+        private CountingFile(Vfs.File file) {
+            this.file = file;
+        }
+
+        @Override
+        public String getName() {
+            return file.getName();
+        }
+
+        @Override
+        public String getRelativePath() {
+            return file.getRelativePath();
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return new FilterInputStream(file.openInputStream()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b != -1) {
+                        bytes++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+                    if (n > 0) {
+                        bytes += n;
+                    }
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long skipped = super.skip(n);
+                    bytes += skipped;
+                    return skipped;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            return file.toString();
+        }
+    }
+
+    /**
+     * a file read into memory, so that it can be parsed and scanned on another thread after its url is closed
+     */
+    private static class InMemoryFile implements Vfs.File {
+
+        private final String name;
+        private final String relativePath;
+        private final byte[] bytes;
+
+        private InMemoryFile(Vfs.File file) throws IOException {
+            name = file.getName();
+            relativePath = file.getRelativePath();
+            InputStream inputStream = null;
+            try {
+                inputStream = file.openInputStream();
+                bytes = ByteStreams.toByteArray(inputStream);
+            } finally {
+                close(inputStream);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public String toString() {
+            return relativePath;
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package org.reflections;
+
+import java.util.Map;
+
+/**
+ * the management interface of a {@link org.reflections.Reflections} instance, registered in the platform MBean server as
+ * {@code org.reflections:type=Reflections,id=<sequence number>} if {@link org.reflections.Configuration#shouldRegisterMBean()},
+ * see {@link org.reflections.Reflections#getMBeanName()}
+ * <p>index metrics are computed on each read, query metrics are recorded only while the MBean is registered.
+ * the MBean is unregistered by {@link org.reflections.Reflections#unregisterMBean()}. it does not keep its Reflections instance
+ * from being garbage collected, and is unregistered when read, or when another MBean is registered, after it was.
+ */
+public interface ReflectionsMXBean {
+
+    /**
+     * number of keys in each index of the store
+     */
+    Map<String, Long> getIndexKeyCounts();
+
+    /**
+     * number of values in each index of the store
+     */
+    Map<String, Long> getIndexValueCounts();
+
+    /**
+     * a rough estimate of the bytes retained by the store, assuming no strings are shared
+     */
+    long getEstimatedBytes();
+
+    /**
+     * number of invocations of each query method, such as {@code getSubTypesOf}
+     */
+    Map<String, Long> getQueryCounts();
+
+    /**
+     * total time in microseconds of each query method
+     */
+    Map<String, Long> getQueryTotalMicros();
+
+    /**
+     * the latency histogram of each query method, counting the invocations below each of {@link #getQueryLatencyBoundsMicros()},
+     * and lastly the ones above all of them
+     */
+    Map<String, long[]> getQueryLatencyHistograms();
+
+    /**
+     * the upper bounds in microseconds of the latency histogram buckets
+     */
+    long[] getQueryLatencyBoundsMicros();
+
+    /**
+     * the ratio of urls read from the incremental or shared scan cache, out of the urls looked up in them
+     */
+    double getCacheHitRate();
+
+    /**
+     * total time of scanning
+     */
+    long getScanMillis();
+
+    /**
+     * total time of collecting saved Reflections resources into this instance
+     */
+    long getCollectMillis();
+
+    /**
+     * clears the recorded query metrics
+     */
+    void resetQueryMetrics();
+}
@@ -0,0 +1,247 @@
+package org.reflections;
+
+import com.google.common.collect.Multimap;
+
+import javax.annotation.Nullable;
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * the registered {@link org.reflections.ReflectionsMXBean} of a Reflections instance, and the query metrics it records
+ */
+class ReflectionsMetrics implements ReflectionsMXBean {
+
+    private static final long[] BOUNDS_MICROS = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
+    private static final AtomicLong                  ids       = new AtomicLong();
+    private static final ReferenceQueue<Reflections> collected = new ReferenceQueue<>();
+
+    private final InstanceReference           reflections;
+    private final ObjectName                  name;
+    private final Map<String, QueryHistogram> queries = new ConcurrentHashMap<>();
+
+    private ReflectionsMetrics(Reflections reflections, ObjectName name) {
+        this.reflections = new InstanceReference(reflections, name);
+        this.name = name;
+    }
+
+    /**
+     * registers the MBean of the given Reflections instance, returns null if it could not be registered
+     * <p>the MBeans of garbage collected instances are unregistered first
+     */
+    @Nullable
+    static ReflectionsMetrics register(Reflections reflections) {
+        for (Reference<? extends Reflections> reference; (reference = collected.poll()) != null; ) {
+            unregister(((InstanceReference) reference).name);
+        }
+        try {
+            ObjectName         name    = new ObjectName("org.reflections:type=Reflections,id=" + ids.incrementAndGet());
+            ReflectionsMetrics metrics = new ReflectionsMetrics(reflections, name);
+            ManagementFactory.getPlatformMBeanServer()
+                             .registerMBean(new StandardMBean(metrics, ReflectionsMXBean.class, true), name);
+            return metrics;
+        } catch (JMException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not register Reflections MBean", e);
+            }
+            return null;
+        }
+    }
+
+    ObjectName getName() {
+        return name;
+    }
+
+    /**
+     * unregisters the MBean
+     */
+    void close() {
+        unregister(name);
+    }
+
+    void recordQuery(String method, long nanos) {
+        queries.computeIfAbsent(method, k -> new QueryHistogram()).record(nanos);
+    }
+
+    @Override
+    public Map<String, Long> getIndexKeyCounts() {
+        Map<String, Long> result = new HashMap<>();
+        Store             store  = store();
+        if (store != null) {
+            for (String index : store.keySet()) {
+                result.put(index, (long) store.get(index).keySet().size());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getIndexValueCounts() {
+        Map<String, Long> result = new HashMap<>();
+        Store             store  = store();
+        if (store != null) {
+            for (String index : store.keySet()) {
+                result.put(index, (long) store.get(index).size());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        long  bytes = 0;
+        Store store = store();
+        if (store != null) {
+            for (String index : store.keySet()) {
+                Multimap<String, String> multimap = store.get(index);
+                //a compact string is ~40 bytes plus its length, a map entry with its values collection ~48 bytes, a value entry ~32 bytes
+                for (String key : multimap.keySet()) {
+                    bytes += 88 + key.length();
+                }
+                for (String value : multimap.values()) {
+                    bytes += 72 + value.length();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public Map<String, Long> getQueryCounts() {
+        Map<String, Long> result = new HashMap<>();
+        for (Map.Entry<String, QueryHistogram> entry : queries.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().count.sum());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getQueryTotalMicros() {
+        Map<String, Long> result = new HashMap<>();
+        for (Map.Entry<String, QueryHistogram> entry : queries.entrySet()) {
+            result.put(entry.getKey(), TimeUnit.NANOSECONDS.toMicros(entry.getValue().totalNanos.sum()));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, long[]> getQueryLatencyHistograms() {
+        Map<String, long[]> result = new HashMap<>();
+        for (Map.Entry<String, QueryHistogram> entry : queries.entrySet()) {
+            LongAdder[] buckets   = entry.getValue().buckets;
+            long[]      histogram = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                histogram[i] = buckets[i].sum();
+            }
+            result.put(entry.getKey(), histogram);
+        }
+        return result;
+    }
+
+    @Override
+    public long[] getQueryLatencyBoundsMicros() {
+        return BOUNDS_MICROS.clone();
+    }
+
+    @Override
+    public double getCacheHitRate() {
+        Reflections reflections = reflections();
+        if (reflections == null) {
+            return 0;
+        }
+        ScanStatistics statistics = reflections.getScanStatistics();
+        long           lookups    = statistics.getCacheHits() + statistics.getCacheMisses();
+        return (lookups > 0) ? (double) statistics.getCacheHits() / lookups : 0;
+    }
+
+    @Override
+    public long getScanMillis() {
+        Reflections reflections = reflections();
+        return (reflections != null) ? TimeUnit.NANOSECONDS.toMillis(reflections.getScanStatistics().getScanNanos()) : 0;
+    }
+
+    @Override
+    public long getCollectMillis() {
+        Reflections reflections = reflections();
+        return (reflections != null)
+               ? TimeUnit.NANOSECONDS.toMillis(reflections.getScanStatistics().getCollectNanos())
+               : 0;
+    }
+
+    @Override
+    public void resetQueryMetrics() {
+        queries.clear();
+    }
+
+    @Nullable
+    private Store store() {
+        Reflections reflections = reflections();
+        return (reflections != null) ? reflections.getStore() : null;
+    }
+
+    /**
+     * returns the Reflections instance, or unregisters the MBean and returns null if it was garbage collected
+     */
+    @Nullable
+    private Reflections reflections() {
+        Reflections result = reflections.get();
+        if (result == null) {
+            unregister(name);
+        }
+        return result;
+    }
+
+    private static void unregister(ObjectName name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            //already unregistered
+        }
+    }
+
+    /**
+     * a weak reference to a Reflections instance, enqueued once it is garbage collected, with the name of its MBean
+     */
+    private static class InstanceReference extends WeakReference<Reflections> {
+
+        private final ObjectName name;
+
+        private InstanceReference(Reflections reflections, ObjectName name) {
+            super(reflections, collected);
+            this.name = name;
+        }
+    }
+
+    private static class QueryHistogram {
+
+        private final LongAdder   count      = new LongAdder();
+        private final LongAdder   totalNanos = new LongAdder();
+        private final LongAdder[] buckets    = new LongAdder[BOUNDS_MICROS.length + 1];
+
+        private QueryHistogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            int  bucket = 0;
+            while ((bucket < BOUNDS_MICROS.length) && (micros >= BOUNDS_MICROS[bucket])) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.reflections;
+
+import java.util.List;
+
+/**
+ * thrown by the future of {@link Reflections#scanAsync(Configuration)} when files or urls could not be scanned.
+ * <p>the failures are added as suppressed exceptions, and the instance holding everything else that was scanned
+ * is returned by {@link #getReflections()}
+ */
+public class ReflectionsScanException extends ReflectionsException {
+
+    private final transient Reflections reflections;
+
+    public ReflectionsScanException(Reflections reflections, List<Exception> failures) {
+        super(String.format("could not scan %d files or urls", failures.size()));
+        this.reflections = reflections;
+        for (Exception failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    /** returns the partially scanned instance */
+    public Reflections getReflections() {
+        return reflections;
+    }
+}
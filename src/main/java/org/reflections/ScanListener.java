@@ -0,0 +1,29 @@
+package org.reflections;
+
+import java.net.URL;
+
+/**
+ * receives the progress of scanning, for example in order to report it or to enforce startup time limits
+ * <p>methods may be called concurrently when scanning in parallel, and should return quickly
+ * <p>see {@link org.reflections.util.ConfigurationBuilder#setScanListener(ScanListener)}
+ */
+public interface ScanListener {
+
+    /**
+     * called before scanning the given url
+     */
+    default void urlStarted(URL url) {
+    }
+
+    /**
+     * called after scanning the given url, whether it was scanned successfully, failed or was stopped
+     */
+    default void urlFinished(URL url) {
+    }
+
+    /**
+     * called after scanning the file with the given relative path within the given url, with the number of bytes read from it
+     */
+    default void fileScanned(URL url, String relativePath, long bytes) {
+    }
+}
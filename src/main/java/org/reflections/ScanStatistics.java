@@ -0,0 +1,230 @@
+package org.reflections;
+
+import org.reflections.scanners.Scanner;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * statistics of scanning, collected by each {@link org.reflections.Reflections} instance
+ * <p>times are in nanoseconds. urls and files scanned in parallel are timed separately, so that the sum of url times may exceed the scan time.
+ * time spent in scanners includes parsing, unless the class object was already created by the {@link org.reflections.adapters.MetadataAdapter}.
+ * <pre>
+ *     ScanStatistics statistics = reflections.getScanStatistics();
+ *     statistics.getScannerNanos(); //{class org.reflections.scanners.SubTypesScanner=12000000, ...}
+ * </pre>
+ */
+public class ScanStatistics {
+
+    private final Map<URL, LongAdder>                      urlNanos          = new ConcurrentHashMap<>();
+    private final Map<URL, LongAdder>                      urlFiles          = new ConcurrentHashMap<>();
+    private final Map<URL, LongAdder>                      urlBytes          = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Scanner>, LongAdder> scannerNanos      = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Scanner>, LongAdder> scannerExceptions = new ConcurrentHashMap<>();
+    private final LongAdder                                parseNanos        = new LongAdder();
+    private final LongAdder                                acceptedFiles     = new LongAdder();
+    private final LongAdder                                rejectedFiles     = new LongAdder();
+    private final LongAdder                                bytesRead         = new LongAdder();
+    private final LongAdder                                cacheHits         = new LongAdder();
+    private final LongAdder                                cacheMisses       = new LongAdder();
+    private final LongAdder                                scanNanos         = new LongAdder();
+    private final LongAdder                                collectNanos      = new LongAdder();
+
+    /**
+     * time spent scanning each url, or reading its cached scan
+     */
+    public Map<URL, Long> getUrlNanos() {
+        return snapshot(urlNanos);
+    }
+
+    /**
+     * number of files scanned from each url
+     */
+    public Map<URL, Long> getUrlFiles() {
+        return snapshot(urlFiles);
+    }
+
+    /**
+     * number of bytes read from each url
+     */
+    public Map<URL, Long> getUrlBytes() {
+        return snapshot(urlBytes);
+    }
+
+    /**
+     * time spent in each scanner class
+     */
+    public Map<Class<? extends Scanner>, Long> getScannerNanos() {
+        return snapshot(scannerNanos);
+    }
+
+    /**
+     * number of exceptions thrown by each scanner class, which were logged or collected and scanning continued
+     */
+    public Map<Class<? extends Scanner>, Long> getScannerExceptions() {
+        return snapshot(scannerExceptions);
+    }
+
+    /**
+     * time spent creating class objects by the {@link org.reflections.adapters.MetadataAdapter}
+     */
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    /**
+     * number of files accepted by the inputs filter
+     */
+    public long getAcceptedFiles() {
+        return acceptedFiles.sum();
+    }
+
+    /**
+     * number of files rejected by the inputs filter
+     */
+    public long getRejectedFiles() {
+        return rejectedFiles.sum();
+    }
+
+    /**
+     * number of bytes read from scanned files
+     */
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * number of urls whose scan was read from the incremental or shared scan cache
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * number of urls scanned while caching, since they were not in the incremental or shared scan cache
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * total time of scanning
+     */
+    public long getScanNanos() {
+        return scanNanos.sum();
+    }
+
+    /**
+     * total time of collecting saved Reflections resources into this instance
+     */
+    public long getCollectNanos() {
+        return collectNanos.sum();
+    }
+
+    /**
+     * adds the statistics of the given instance, such as of the instance a copy was created from
+     */
+    void add(ScanStatistics statistics) {
+        add(urlNanos, statistics.urlNanos);
+        add(urlFiles, statistics.urlFiles);
+        add(urlBytes, statistics.urlBytes);
+        add(scannerNanos, statistics.scannerNanos);
+        add(scannerExceptions, statistics.scannerExceptions);
+        parseNanos.add(statistics.parseNanos.sum());
+        acceptedFiles.add(statistics.acceptedFiles.sum());
+        rejectedFiles.add(statistics.rejectedFiles.sum());
+        bytesRead.add(statistics.bytesRead.sum());
+        cacheHits.add(statistics.cacheHits.sum());
+        cacheMisses.add(statistics.cacheMisses.sum());
+        scanNanos.add(statistics.scanNanos.sum());
+        collectNanos.add(statistics.collectNanos.sum());
+    }
+
+    void addUrl(URL url, long nanos) {
+        urlNanos.computeIfAbsent(url, k -> new LongAdder()).add(nanos);
+    }
+
+    void addScanner(Class<? extends Scanner> scanner, long nanos) {
+        scannerNanos.computeIfAbsent(scanner, k -> new LongAdder()).add(nanos);
+    }
+
+    void addScannerException(Class<? extends Scanner> scanner) {
+        scannerExceptions.computeIfAbsent(scanner, k -> new LongAdder()).increment();
+    }
+
+    void addParse(long nanos) {
+        parseNanos.add(nanos);
+    }
+
+    void addFile(boolean accepted) {
+        (accepted ? acceptedFiles : rejectedFiles).increment();
+    }
+
+    void addRead(URL url, long bytes) {
+        urlFiles.computeIfAbsent(url, k -> new LongAdder()).increment();
+        urlBytes.computeIfAbsent(url, k -> new LongAdder()).add(bytes);
+        bytesRead.add(bytes);
+    }
+
+    void addCacheLookup(boolean hit) {
+        (hit ? cacheHits : cacheMisses).increment();
+    }
+
+    void addScan(long nanos) {
+        scanNanos.add(nanos);
+    }
+
+    void addCollect(long nanos) {
+        collectNanos.add(nanos);
+    }
+
+    long getUrlFiles(URL url) {
+        LongAdder files = urlFiles.get(url);
+        return (files != null) ? files.sum() : 0;
+    }
+
+    long getUrlBytes(URL url) {
+        LongAdder bytes = urlBytes.get(url);
+        return (bytes != null) ? bytes.sum() : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(format("accepted %d files, rejected %d files, read %d bytes, parsed in %d ms",
+                                                    getAcceptedFiles(),
+                                                    getRejectedFiles(),
+                                                    getBytesRead(),
+                                                    TimeUnit.NANOSECONDS.toMillis(getParseNanos())));
+        for (Map.Entry<Class<? extends Scanner>, Long> entry : getScannerNanos().entrySet()) {
+            Long exceptions = getScannerExceptions().get(entry.getKey());
+            sb.append(format("\n%s took %d ms, %d exceptions",
+                             entry.getKey().getSimpleName(),
+                             TimeUnit.NANOSECONDS.toMillis(entry.getValue()),
+                             (exceptions != null) ? exceptions : 0));
+        }
+        for (Map.Entry<URL, Long> entry : getUrlNanos().entrySet()) {
+            sb.append(format("\n%s took %d ms", entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue())));
+        }
+        return sb.toString();
+    }
+
+    private static <K> void add(Map<K, LongAdder> map, Map<K, LongAdder> added) {
+        for (Map.Entry<K, LongAdder> entry : added.entrySet()) {
+            map.computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(entry.getValue().sum());
+        }
+    }
+
+    private static <K> Map<K, Long> snapshot(Map<K, LongAdder> map) {
+        Map<K, Long> result = new HashMap<>();
+        for (Map.Entry<K, LongAdder> entry : map.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,376 @@
+package org.reflections;
+
+import com.google.common.collect.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * a set multimap which shares its value sets with the multimaps copied from it, see {@link #copy()}
+ * <p>the key set, entries and map views iterate over a copy of the keys, and {@link #keys()} returns a copy
+ */
+class SharedSetMultimap<K, V> implements SetMultimap<K, V> {
+
+    private final Supplier<Set<V>>             factory;
+    private final CopyOnWriteValues<K, Set<V>> map;
+    private       int                          size;
+
+    SharedSetMultimap(Supplier<Set<V>> factory) {
+        this(factory, new CopyOnWriteValues<>(values -> {
+            Set<V> copy = factory.get();
+            copy.addAll(values);
+            return copy;
+        }), 0);
+    }
+
+    private SharedSetMultimap(Supplier<Set<V>> factory, CopyOnWriteValues<K, Set<V>> map, int size) {
+        this.factory = factory;
+        this.map = map;
+        this.size = size;
+    }
+
+    /**
+     * returns a copy sharing the value sets of this multimap, which are then copied by either multimap when first modified.
+     * copying costs a reference per key rather than a copy of every value
+     */
+    SharedSetMultimap<K, V> copy() {
+        return new SharedSetMultimap<>(factory, map.copy(), size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Set<V> values : map.values()) {
+            if (values.contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsEntry(Object key, Object value) {
+        Set<V> values = map.get(key);
+        return (values != null) && values.contains(value);
+    }
+
+    @Override
+    public boolean put(K key, V value) {
+        if (containsEntry(key, value)) {
+            return false; //not copying shared values
+        }
+        map.getOrCreate(key, factory).add(value);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!containsEntry(key, value)) {
+            return false;
+        }
+        Set<V> values = map.getForWrite(key);
+        values.remove(value);
+        size--;
+        if (values.isEmpty()) {
+            map.remove(key);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values) {
+        boolean changed = false;
+        for (V value : values) {
+            changed |= put(key, value);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
+        boolean changed = false;
+        for (Map.Entry<? extends K, ? extends V> entry : multimap.entries()) {
+            changed |= put(entry.getKey(), entry.getValue());
+        }
+        return changed;
+    }
+
+    @Override
+    public Set<V> replaceValues(K key, Iterable<? extends V> values) {
+        Set<V> previous = removeAll(key);
+        putAll(key, values);
+        return previous;
+    }
+
+    @Override
+    public Set<V> removeAll(Object key) {
+        Set<V> values = map.remove(key);
+        if (values == null) {
+            return Collections.emptySet();
+        }
+        size -= values.size();
+        return Collections.unmodifiableSet(values);
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        size = 0;
+    }
+
+    @Override
+    public Set<V> get(K key) {
+        return new KeyValues(key);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                Iterator<K> keys = new ArrayList<>(map.keySet()).iterator();
+                return new Iterator<K>() {
+                    private K last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public K next() {
+                        return last = keys.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        checkState(last != null);
+                        SharedSetMultimap.this.removeAll(last);
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                return !SharedSetMultimap.this.removeAll(key).isEmpty();
+            }
+        };
+    }
+
+    @Override
+    public Multiset<K> keys() {
+        Multiset<K> keys = HashMultiset.create();
+        for (K key : map.keySet()) {
+            keys.add(key, map.get(key).size());
+        }
+        return Multisets.unmodifiableMultiset(keys);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return Iterators.transform(entries().iterator(), Map.Entry::getValue);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object value) {
+                return containsValue(value);
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entries() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return Iterators.concat(Iterators.transform(keySet().iterator(),
+                                                            key -> Iterators.transform(get(key).iterator(),
+                                                                                       value -> Maps.immutableEntry(key, value))));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return (o instanceof Map.Entry) && containsEntry(((Map.Entry<?, ?>) o).getKey(), ((Map.Entry<?, ?>) o).getValue());
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                return (o instanceof Map.Entry) && SharedSetMultimap.this.remove(((Map.Entry<?, ?>) o).getKey(),
+                                                                                  ((Map.Entry<?, ?>) o).getValue());
+            }
+        };
+    }
+
+    @Override
+    public Map<K, Collection<V>> asMap() {
+        return new AbstractMap<K, Collection<V>>() {
+            @Override
+            public Set<Entry<K, Collection<V>>> entrySet() {
+                return new AbstractSet<Entry<K, Collection<V>>>() {
+                    @Override
+                    public Iterator<Entry<K, Collection<V>>> iterator() {
+                        return Iterators.transform(keySet().iterator(), key -> Maps.immutableEntry(key, get(key)));
+                    }
+
+                    @Override
+                    public int size() {
+                        return map.size();
+                    }
+                };
+            }
+
+            @Override
+            public Set<K> keySet() {
+                return SharedSetMultimap.this.keySet();
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return SharedSetMultimap.this.containsKey(key);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Collection<V> get(Object key) {
+                return containsKey(key) ? SharedSetMultimap.this.get((K) key) : null;
+            }
+
+            @Override
+            public Collection<V> remove(Object key) {
+                return containsKey(key) ? removeAll(key) : null;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return (object == this) || ((object instanceof Multimap) && asMap().equals(((Multimap<?, ?>) object).asMap()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * the values of a key, a view writing through to the multimap
+     */
+    private class KeyValues extends AbstractSet<V> {
+
+        private final K key;
+
+        private KeyValues(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            Set<V> values = map.get(key);
+            if (values == null) {
+                return Collections.emptyIterator();
+            }
+            Iterator<V> iterator = values.iterator();
+            return new Iterator<V>() {
+                private V last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return last = iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    checkState(last != null);
+                    if ((map.get(key) == values) && map.isOwned(key)) {
+                        iterator.remove();
+                        size--;
+                        if (values.isEmpty()) {
+                            map.remove(key);
+                        }
+                    } else {
+                        //shared, or replaced since, the iterated values are not modified
+                        SharedSetMultimap.this.remove(key, last);
+                    }
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            Set<V> values = map.get(key);
+            return (values != null) ? values.size() : 0;
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return containsEntry(key, value);
+        }
+
+        @Override
+        public boolean add(V value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            return SharedSetMultimap.this.remove(key, value);
+        }
+
+        @Override
+        public void clear() {
+            SharedSetMultimap.this.removeAll(key);
+        }
+    }
+}
@@ -2,29 +2,67 @@ package org.reflections;
 
 import com.google.common.collect.*;
 
+import javax.annotation.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * stores metadata information in multimaps
  * <p>use the different query methods (getXXX) to query the metadata
  * <p>the query methods are string based, and does not cause the class loader to define the types
  * <p>use {@link org.reflections.Reflections#getStore()} to access this store
+ * <p>when tracking sources, the url and the file within it that contributed each entry are recorded,
+ * so that the entries contributed by a url or a file could be removed using {@link #removeSource(String)} or {@link #removeSource(String, String)}
  */
 public class Store {
 
-    private final transient boolean                               concurrent;
-    private final           Map<String, Multimap<String, String>> storeMap;
+    private final transient boolean                                                                 concurrent;
+    private final           Map<String, Multimap<String, String>>                                   storeMap;
+    private final transient Map<String, SharedSetMultimap<String, String>>                          multimaps;
+    //url -> file path -> entries, each entry a list of index, key and value
+    private final transient CopyOnWriteValues<String, CopyOnWriteValues<String, Set<List<String>>>> sources;
+    //index and key -> values, counted by the number of sources contributing them
+    private final transient CopyOnWriteValues<List<String>, Multiset<String>>                       references;
 
     //used via reflection
     protected Store() {
-        storeMap = new HashMap<>();
-        concurrent = false;
+        this(false);
     }
 
     public Store(Configuration configuration) {
+        this((configuration.getExecutorService() != null) || (configuration.getScanParallelism() > 0));
+    }
+
+    private Store(boolean concurrent) {
+        this.concurrent = concurrent;
         storeMap = new HashMap<>();
-        concurrent = configuration.getExecutorService() != null;
+        multimaps = new HashMap<>();
+        sources = new CopyOnWriteValues<>(CopyOnWriteValues::copy);
+        references = new CopyOnWriteValues<>(HashMultiset::create);
+    }
+
+    /**
+     * creates a copy of the given store, including its recorded sources
+     * <p>the copy shares the values of each key with the given store until either store modifies them,
+     * so that copying costs a reference per key rather than a copy of every entry
+     */
+    Store(Store store) {
+        concurrent = store.concurrent;
+        storeMap = new HashMap<>();
+        multimaps = new HashMap<>();
+        synchronized (store) {
+            for (String index : store.keySet()) {
+                SharedSetMultimap<String, String> multimap;
+                synchronized (store.get(index)) {
+                    multimap = store.multimaps.get(index).copy();
+                }
+                put(index, multimap);
+            }
+            sources = store.sources.copy();
+            references = store.references.copy();
+        }
     }
 
     /**
@@ -40,14 +78,18 @@ public class Store {
     public Multimap<String, String> getOrCreate(String index) {
         Multimap<String, String> mmap = storeMap.get(index);
         if (mmap == null) {
-            SetMultimap<String, String> multimap = Multimaps.newSetMultimap(new HashMap<>(),
-                                                                            () -> Sets.newSetFromMap(new ConcurrentHashMap<>()));
-            mmap = concurrent ? Multimaps.synchronizedSetMultimap(multimap) : multimap;
-            storeMap.put(index, mmap);
+            mmap = put(index, new SharedSetMultimap<>(() -> Sets.newSetFromMap(new ConcurrentHashMap<>())));
         }
         return mmap;
     }
 
+    private Multimap<String, String> put(String index, SharedSetMultimap<String, String> multimap) {
+        Multimap<String, String> mmap = concurrent ? Multimaps.synchronizedSetMultimap(multimap) : multimap;
+        multimaps.put(index, multimap);
+        storeMap.put(index, mmap);
+        return mmap;
+    }
+
     /**
      * get the multimap object for the given {@code index}, otherwise throws a {@link org.reflections.ReflectionsException}
      */
@@ -106,6 +148,155 @@ public class Store {
         return getAllIncluding(index, get(index, keys), new IterableChain<>());
     }
 
+    /**
+     * lazily and recursively get the distinct values stored for the given {@code index} and {@code key}, not including the key
+     * <p>values are looked up only as the stream is consumed, so that short-circuiting operations do not walk the whole index
+     */
+    public Stream<String> streamAll(String index, String key) {
+        return streamAll(index, Collections.singleton(key).iterator(), false);
+    }
+
+    /**
+     * lazily and recursively get the distinct values stored for the given {@code index} and {@code keys}, including keys
+     * <p>the keys stream is consumed only as the returned stream is consumed
+     */
+    public Stream<String> streamAllIncluding(String index, Stream<String> keys) {
+        return streamAll(index, keys.iterator(), true).onClose(keys::close);
+    }
+
+    private Stream<String> streamAll(String index, Iterator<String> keys, boolean includeKeys) {
+        Multimap<String, String> mmap = get(index);
+        Iterator<String> iterator = new AbstractIterator<String>() {
+            private final Deque<Iterator<String>> stack   = new ArrayDeque<>(Collections.singleton(keys));
+            private final Set<String>             visited = new HashSet<>();
+
+            @Override
+            protected String computeNext() {
+                while (!stack.isEmpty()) {
+                    Iterator<String> top = stack.peek();
+                    if (!top.hasNext()) {
+                        stack.pop();
+                        continue;
+                    }
+                    String value = top.next();
+                    if (visited.add(value)) {
+                        Collection<String> values = mmap.get(value);
+                        if (!values.isEmpty()) {
+                            stack.push(ImmutableList.copyOf(values).iterator());
+                        }
+                        if ((top != keys) || includeKeys) {
+                            return value;
+                        }
+                    }
+                }
+                return endOfData();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                                                                        Spliterator.DISTINCT | Spliterator.NONNULL),
+                                    false);
+    }
+
+    /**
+     * records the given {@code url} and the {@code path} of the file within it as a source of the given {@code index}, {@code key} and {@code value} entry
+     * <p>the entry itself is not put into the store
+     */
+    public synchronized void addSource(String index, String key, String value, String url, @Nullable String path) {
+        addSource(Arrays.asList(index, key, value), url, String.valueOf(path));
+    }
+
+    private void addSource(List<String> entry, String url, String path) {
+        Set<List<String>> entries = sources.getOrCreate(url, () -> new CopyOnWriteValues<>(HashSet::new))
+                                           .getOrCreate(path, HashSet::new);
+        if (entries.add(entry)) {
+            references.getOrCreate(entry.subList(0, 2), HashMultiset::create).add(entry.get(2));
+        }
+    }
+
+    /**
+     * records a reference to the given {@code index}, {@code key} and {@code value} entry, which was put without a source such as merged or expanded,
+     * so that the entry is not removed along with the sources which also contributed it
+     */
+    synchronized void addReference(String index, String key, String value) {
+        references.getOrCreate(Arrays.asList(index, key), HashMultiset::create).add(value);
+    }
+
+    /**
+     * records the sources recorded in the given store, whose entries are merged into this store separately
+     */
+    synchronized void addSources(Store store) {
+        synchronized (store) {
+            for (String url : store.sources.keySet()) {
+                CopyOnWriteValues<String, Set<List<String>>> files = store.sources.get(url);
+                for (String path : files.keySet()) {
+                    for (List<String> entry : files.get(path)) {
+                        addSource(entry, url, path);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * return the urls recorded as sources of entries in this store
+     */
+    public synchronized Set<String> getSources() {
+        return ImmutableSet.copyOf(sources.keySet());
+    }
+
+    /**
+     * return the relative paths of the files within the given source {@code url} recorded as sources of entries in this store
+     */
+    public synchronized Set<String> getSources(String url) {
+        CopyOnWriteValues<String, Set<List<String>>> files = sources.get(url);
+        return (files != null) ? ImmutableSet.copyOf(files.keySet()) : Collections.emptySet();
+    }
+
+    /**
+     * removes all entries contributed by the given source {@code url}, unless also contributed by another source
+     * <p>entries which were put without a source, for example merged or expanded, are not removed, even if also contributed by the given url
+     */
+    public synchronized void removeSource(String url) {
+        CopyOnWriteValues<String, Set<List<String>>> files = sources.remove(url);
+        if (files != null) {
+            for (Set<List<String>> entries : files.values()) {
+                removeEntries(entries);
+            }
+        }
+    }
+
+    /**
+     * removes all entries contributed by the file with the given relative {@code path} within the given source {@code url},
+     * unless also contributed by another source
+     */
+    public synchronized void removeSource(String url, String path) {
+        CopyOnWriteValues<String, Set<List<String>>> files = sources.getForWrite(url);
+        if (files != null) {
+            Set<List<String>> entries = files.remove(path);
+            if (entries != null) {
+                removeEntries(entries);
+            }
+            if (files.size() == 0) {
+                sources.remove(url);
+            }
+        }
+    }
+
+    private void removeEntries(Collection<List<String>> entries) {
+        for (List<String> entry : entries) {
+            List<String>     indexKey = entry.subList(0, 2);
+            Multiset<String> values   = references.getForWrite(indexKey);
+            if ((values != null) && (values.remove(entry.get(2), 1) == 1)) {
+                if (values.isEmpty()) {
+                    references.remove(indexKey);
+                }
+                if (storeMap.containsKey(entry.get(0))) {
+                    storeMap.get(entry.get(0)).remove(entry.get(1), entry.get(2));
+                }
+            }
+        }
+    }
+
     private static class IterableChain<T> implements Iterable<T> {
 
         private final List<Iterable<T>> chain = Lists.newArrayList();
@@ -0,0 +1,353 @@
+package org.reflections;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.ResourcesScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static com.google.common.collect.Iterables.concat;
+import static org.reflections.util.Utils.index;
+import static org.reflections.util.Utils.isConstructor;
+
+/**
+ * a composable query of types, evaluated over the store by name, so that only the types of the final result are resolved
+ * <p>queries are combined with {@link #and(TypeQuery)}, {@link #or(TypeQuery)} and {@link #andNot(TypeQuery)}, for example
+ * <pre>
+ *     import static org.reflections.TypeQuery.*;
+ *
+ *     Set&#60Class&#60?>> handlers = reflections.getTypes(subTypesOf(Handler.class)
+ *                                              .and(annotatedWith(Component.class))
+ *                                              .andNot(annotatedWith(Deprecated.class))
+ *                                              .and(inPackage("com.acme.api")));
+ * </pre>
+ * <p>the operands of an intersection are evaluated in order of their estimated size, which is the number of their direct entries in the index
+ * (such as the direct sub types of a type), and the rest are not evaluated once the intersection is empty.
+ * package queries are applied as filters rather than evaluated as sets.
+ * a query that is only a filter, or only negated, is evaluated over all types of the SubTypesScanner index
+ * <p>see {@link org.reflections.Reflections#getTypes(TypeQuery)} and {@link org.reflections.Reflections#getTypeNames(TypeQuery)}
+ */
+public abstract class TypeQuery {
+
+    TypeQuery() {
+    }
+
+    /**
+     * all sub types in hierarchy of a given type
+     * <p>depends on SubTypesScanner configured
+     */
+    public static TypeQuery subTypesOf(Class<?> type) {
+        return subTypesOf(type.getName());
+    }
+
+    /**
+     * all sub types in hierarchy of a given type name
+     * <p>depends on SubTypesScanner configured
+     */
+    public static TypeQuery subTypesOf(String type) {
+        return new TypeQuery() {
+            @Override
+            Set<String> evaluate(Store store) {
+                return Sets.newHashSet(store.getAll(index(SubTypesScanner.class), type));
+            }
+
+            @Override
+            int estimate(Store store) {
+                return store.get(index(SubTypesScanner.class)).get(type).size();
+            }
+
+            @Override
+            public String toString() {
+                return "subTypesOf(" + type + ")";
+            }
+        };
+    }
+
+    /**
+     * types annotated with a given annotation, both classes and annotations, and their sub types
+     * <p>{@link java.lang.annotation.Inherited} is not honored, same as {@link org.reflections.Reflections#getTypesAnnotatedWith(Class)}
+     * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public static TypeQuery annotatedWith(Class<? extends Annotation> annotation) {
+        return annotatedWith(annotation.getName());
+    }
+
+    /**
+     * types annotated with a given annotation name, both classes and annotations, and their sub types
+     * <p>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public static TypeQuery annotatedWith(String annotation) {
+        return new TypeQuery() {
+            @Override
+            Set<String> evaluate(Store store) {
+                Iterable<String> annotated = store.get(index(TypeAnnotationsScanner.class), annotation);
+                Iterable<String> subTypes = concat(annotated,
+                                                   store.getAll(index(TypeAnnotationsScanner.class), annotated));
+                return Sets.newHashSet(concat(subTypes, store.getAll(index(SubTypesScanner.class), subTypes)));
+            }
+
+            @Override
+            int estimate(Store store) {
+                return store.get(index(TypeAnnotationsScanner.class)).get(annotation).size();
+            }
+
+            @Override
+            public String toString() {
+                return "annotatedWith(" + annotation + ")";
+            }
+        };
+    }
+
+    /**
+     * types in a given package or its sub packages, including nested types
+     */
+    public static TypeQuery inPackage(String packageName) {
+        String prefix = packageName.endsWith(".") ? packageName : packageName + ".";
+        return new Filter("inPackage(" + packageName + ")") {
+            @Override
+            Predicate<String> predicate(Store store) {
+                return type -> type.startsWith(prefix);
+            }
+        };
+    }
+
+    /**
+     * types declaring a method annotated with a given annotation
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public static TypeQuery hasMethodAnnotatedWith(Class<? extends Annotation> annotation) {
+        return hasMethodAnnotatedWith(annotation.getName());
+    }
+
+    /**
+     * types declaring a method annotated with a given annotation name
+     * <p>depends on MethodAnnotationsScanner configured
+     */
+    public static TypeQuery hasMethodAnnotatedWith(String annotation) {
+        return new TypeQuery() {
+            @Override
+            Set<String> evaluate(Store store) {
+                Set<String> result = new HashSet<>();
+                for (String method : store.get(index(MethodAnnotationsScanner.class), annotation)) {
+                    if (!isConstructor(method)) {
+                        String member = method.substring(0, method.indexOf('('));
+                        result.add(member.substring(0, member.lastIndexOf('.')));
+                    }
+                }
+                return result;
+            }
+
+            @Override
+            int estimate(Store store) {
+                return store.get(index(MethodAnnotationsScanner.class)).get(annotation).size();
+            }
+
+            @Override
+            public String toString() {
+                return "hasMethodAnnotatedWith(" + annotation + ")";
+            }
+        };
+    }
+
+    /**
+     * types whose package directly contains a resource with a simple name matching the given regular expression,
+     * for example types next to a {@code plugin.properties}
+     * <p>depends on ResourcesScanner configured
+     */
+    public static TypeQuery hasResource(Pattern pattern) {
+        return new Filter("hasResource(" + pattern + ")") {
+            @Override
+            Predicate<String> predicate(Store store) {
+                Set<String> packages = new HashSet<>();
+                for (Map.Entry<String, String> entry : store.get(index(ResourcesScanner.class)).entries()) {
+                    if (pattern.matcher(entry.getKey()).matches()) {
+                        String path = entry.getValue();
+                        packages.add((path.lastIndexOf('/') != -1)
+                                     ? path.substring(0, path.lastIndexOf('/')).replace('/', '.')
+                                     : "");
+                    }
+                }
+                return type -> packages.contains(packageOf(type));
+            }
+        };
+    }
+
+    /**
+     * types matching both this and the given query
+     */
+    public TypeQuery and(TypeQuery query) {
+        return new And(ImmutableList.<TypeQuery>builder().addAll(operands(this)).addAll(operands(query)).build());
+    }
+
+    /**
+     * types matching either this or the given query
+     */
+    public TypeQuery or(TypeQuery query) {
+        TypeQuery left = this;
+        return new TypeQuery() {
+            @Override
+            Set<String> evaluate(Store store) {
+                Set<String> result = left.evaluate(store);
+                result.addAll(query.evaluate(store));
+                return result;
+            }
+
+            @Override
+            int estimate(Store store) {
+                return (int) Math.min((long) left.estimate(store) + query.estimate(store), Integer.MAX_VALUE);
+            }
+
+            @Override
+            public String toString() {
+                return "(" + left + " or " + query + ")";
+            }
+        };
+    }
+
+    /**
+     * types matching this query but not the given query
+     */
+    public TypeQuery andNot(TypeQuery query) {
+        return and(new Filter("not " + query) {
+            @Override
+            Predicate<String> predicate(Store store) {
+                Predicate<String> predicate = query.predicate(store);
+                if (predicate != null) {
+                    return type -> !predicate.apply(type);
+                }
+                Set<String> excluded = query.evaluate(store);
+                return type -> !excluded.contains(type);
+            }
+        });
+    }
+
+    /**
+     * evaluates this query over the given store, returns a new mutable set of type names
+     */
+    abstract Set<String> evaluate(Store store);
+
+    /**
+     * a cheap estimate of the size of this query, used for ordering the operands of intersections
+     */
+    int estimate(Store store) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * the predicate of this query if it is cheaper to filter by it than to evaluate it, otherwise null
+     */
+    @Nullable
+    Predicate<String> predicate(Store store) {
+        return null;
+    }
+
+    private static List<TypeQuery> operands(TypeQuery query) {
+        return (query instanceof And) ? ((And) query).operands : Collections.singletonList(query);
+    }
+
+    private static String packageOf(String type) {
+        return (type.lastIndexOf('.') != -1) ? type.substring(0, type.lastIndexOf('.')) : "";
+    }
+
+    /**
+     * all type names of the SubTypesScanner index, both sub types and super types
+     */
+    private static Set<String> allTypes(Store store) {
+        Set<String> result = Sets.newHashSet(store.get(index(SubTypesScanner.class)).keySet());
+        Iterables.addAll(result, store.get(index(SubTypesScanner.class)).values());
+        return result;
+    }
+
+    private abstract static class Filter extends TypeQuery {
+        private final String description;
+
+        private Filter(String description) {
+            this.description = description;
+        }
+
+        @Override
+        abstract Predicate<String> predicate(Store store);
+
+        @Override
+        Set<String> evaluate(Store store) {
+            return Sets.newHashSet(Iterables.filter(allTypes(store), predicate(store)));
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static class And extends TypeQuery {
+        private final List<TypeQuery> operands;
+
+        private And(List<TypeQuery> operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        Set<String> evaluate(Store store) {
+            List<TypeQuery>         sets       = new ArrayList<>();
+            List<Predicate<String>> predicates = new ArrayList<>();
+            for (TypeQuery operand : operands) {
+                Predicate<String> predicate = operand.predicate(store);
+                if (predicate != null) {
+                    predicates.add(predicate);
+                } else {
+                    sets.add(operand);
+                }
+            }
+
+            Map<TypeQuery, Integer> estimates = new IdentityHashMap<>();
+            for (TypeQuery operand : sets) {
+                estimates.put(operand, operand.estimate(store));
+            }
+            sets.sort(Comparator.comparingInt(estimates::get));
+            Set<String> result = null;
+            for (TypeQuery operand : sets) {
+                if (result == null) {
+                    result = operand.evaluate(store);
+                } else {
+                    result.retainAll(operand.evaluate(store));
+                }
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            if (result == null) {
+                result = allTypes(store);
+            }
+            for (Predicate<String> predicate : predicates) {
+                result.removeIf(type -> !predicate.apply(type));
+            }
+            return result;
+        }
+
+        @Override
+        int estimate(Store store) {
+            int result = Integer.MAX_VALUE;
+            for (TypeQuery operand : operands) {
+                result = Math.min(result, operand.estimate(store));
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(" and ", "(", ")");
+            for (TypeQuery operand : operands) {
+                joiner.add(operand.toString());
+            }
+            return joiner.toString();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.reflections.adapters;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
+import org.reflections.util.AnnotationValues;
 import org.reflections.util.Utils;
 import org.reflections.vfs.Vfs.File;
 
@@ -67,6 +68,23 @@ public class JavaReflectionAdapter implements MetadataAdapter<Class, Field, Memb
         return getAnnotationNames(annotations);
     }
 
+    @Override
+    public Map<String, Map<String, String>> getClassAnnotationValues(Class aClass) {
+        return getAnnotationValues(aClass.getDeclaredAnnotations());
+    }
+
+    @Override
+    public Map<String, Map<String, String>> getFieldAnnotationValues(Field field) {
+        return getAnnotationValues(field.getDeclaredAnnotations());
+    }
+
+    @Override
+    public Map<String, Map<String, String>> getMethodAnnotationValues(Member method) {
+        return (method instanceof Executable)
+               ? getAnnotationValues(((Executable) method).getDeclaredAnnotations())
+               : Collections.emptyMap();
+    }
+
     @Override
     public List<String> getParameterAnnotationNames(Member method, int parameterIndex) {
         Annotation[][] annotations = (method instanceof Executable)
@@ -158,6 +176,25 @@ public class JavaReflectionAdapter implements MetadataAdapter<Class, Field, Memb
         return names;
     }
 
+    /**
+     * runtime annotations include default member values, which are indexed as set explicitly
+     */
+    private static Map<String, Map<String, String>> getAnnotationValues(Annotation[] annotations) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (Annotation annotation : annotations) {
+            Map<String, String> values = new HashMap<>();
+            for (Method member : annotation.annotationType().getDeclaredMethods()) {
+                try {
+                    values.put(member.getName(), AnnotationValues.encode(member.invoke(annotation)));
+                } catch (Exception e) {
+                    values.put(member.getName(), null);
+                }
+            }
+            result.put(annotation.annotationType().getName(), values);
+        }
+        return result;
+    }
+
     public static String getName(Class type) {
         if (type.isArray()) {
             try {
@@ -4,14 +4,14 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 import javassist.bytecode.*;
 import javassist.bytecode.Descriptor.Iterator;
-import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.*;
 import org.reflections.ReflectionsException;
+import org.reflections.util.AnnotationValues;
 import org.reflections.util.Utils;
 import org.reflections.vfs.Vfs;
 
 import java.io.*;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 import static javassist.bytecode.AccessFlag.isPrivate;
 import static javassist.bytecode.AccessFlag.isProtected;
@@ -74,6 +74,30 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
                : getAnnotationNames((AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.visibleTag), null);
     }
 
+    @Override
+    public Map<String, Map<String, String>> getClassAnnotationValues(ClassFile aClass) {
+        return getAnnotationValues((AnnotationsAttribute) aClass.getAttribute(AnnotationsAttribute.visibleTag),
+                                   includeInvisibleTag
+                                   ? (AnnotationsAttribute) aClass.getAttribute(AnnotationsAttribute.invisibleTag)
+                                   : null);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> getFieldAnnotationValues(FieldInfo field) {
+        return getAnnotationValues((AnnotationsAttribute) field.getAttribute(AnnotationsAttribute.visibleTag),
+                                   includeInvisibleTag
+                                   ? (AnnotationsAttribute) field.getAttribute(AnnotationsAttribute.invisibleTag)
+                                   : null);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> getMethodAnnotationValues(MethodInfo method) {
+        return getAnnotationValues((AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.visibleTag),
+                                   includeInvisibleTag
+                                   ? (AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.invisibleTag)
+                                   : null);
+    }
+
     @Override
     public List<String> getParameterAnnotationNames(MethodInfo method, int parameterIndex) {
         List<String> result = Lists.newArrayList();
@@ -192,6 +216,65 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
         return result;
     }
 
+    private static Map<String, Map<String, String>> getAnnotationValues(AnnotationsAttribute... annotationsAttributes) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (AnnotationsAttribute annotationsAttribute : annotationsAttributes) {
+            if (annotationsAttribute != null) {
+                for (Annotation annotation : annotationsAttribute.getAnnotations()) {
+                    Map<String, String> values = new HashMap<>();
+                    if (annotation.getMemberNames() != null) {
+                        for (Object member : annotation.getMemberNames()) {
+                            values.put((String) member, getAnnotationValue(annotation.getMemberValue((String) member)));
+                        }
+                    }
+                    result.put(annotation.getTypeName(), values);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * encodes the given member value the same as {@link org.reflections.util.AnnotationValues#encode(Object)} encodes its runtime value
+     */
+    private static String getAnnotationValue(MemberValue value) {
+        if (value instanceof StringMemberValue) {
+            return ((StringMemberValue) value).getValue();
+        } else if (value instanceof EnumMemberValue) {
+            return ((EnumMemberValue) value).getValue();
+        } else if (value instanceof ClassMemberValue) {
+            return ((ClassMemberValue) value).getValue();
+        } else if (value instanceof BooleanMemberValue) {
+            return String.valueOf(((BooleanMemberValue) value).getValue());
+        } else if (value instanceof ByteMemberValue) {
+            return String.valueOf(((ByteMemberValue) value).getValue());
+        } else if (value instanceof CharMemberValue) {
+            return String.valueOf(((CharMemberValue) value).getValue());
+        } else if (value instanceof ShortMemberValue) {
+            return String.valueOf(((ShortMemberValue) value).getValue());
+        } else if (value instanceof IntegerMemberValue) {
+            return String.valueOf(((IntegerMemberValue) value).getValue());
+        } else if (value instanceof LongMemberValue) {
+            return String.valueOf(((LongMemberValue) value).getValue());
+        } else if (value instanceof FloatMemberValue) {
+            return String.valueOf(((FloatMemberValue) value).getValue());
+        } else if (value instanceof DoubleMemberValue) {
+            return String.valueOf(((DoubleMemberValue) value).getValue());
+        } else if ((value instanceof ArrayMemberValue) && (((ArrayMemberValue) value).getValue() != null)) {
+            List<String> elements = new ArrayList<>();
+            for (MemberValue element : ((ArrayMemberValue) value).getValue()) {
+                String encoded = getAnnotationValue(element);
+                if (encoded == null) {
+                    return null;
+                }
+                elements.add(encoded);
+            }
+            return AnnotationValues.encodeArray(elements);
+        } else {
+            return null;
+        }
+    }
+
     private static List<String> getAnnotationNames(Annotation[] annotations) {
         List<String> result = Lists.newArrayList();
 
@@ -2,7 +2,9 @@ package org.reflections.adapters;
 
 import org.reflections.vfs.Vfs.File;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -33,6 +35,28 @@ public interface MetadataAdapter<C, F, M> {
 
     List<String> getParameterAnnotationNames(M method, int parameterIndex);
 
+    /**
+     * the member values of each annotation of the given class, keyed by annotation type name and member name,
+     * encoded by {@link org.reflections.util.AnnotationValues}. members whose value can not be encoded are mapped to null
+     */
+    default Map<String, Map<String, String>> getClassAnnotationValues(C cls) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * the member values of each annotation of the given field, see {@link #getClassAnnotationValues(Object)}
+     */
+    default Map<String, Map<String, String>> getFieldAnnotationValues(F field) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * the member values of each annotation of the given method, see {@link #getClassAnnotationValues(Object)}
+     */
+    default Map<String, Map<String, String>> getMethodAnnotationValues(M method) {
+        return Collections.emptyMap();
+    }
+
     String getReturnTypeName(M method);
 
     String getFieldName(F field);
@@ -6,8 +6,11 @@ import com.google.common.collect.Multimap;
 import org.reflections.Configuration;
 import org.reflections.ReflectionsException;
 import org.reflections.adapters.MetadataAdapter;
+import org.reflections.util.FilterBuilder;
 import org.reflections.vfs.Vfs.File;
 
+import javax.annotation.Nullable;
+
 /**
  *
  */
@@ -72,6 +75,16 @@ public abstract class AbstractScanner implements Scanner {
         return this;
     }
 
+    /**
+     * a description of this scanner and its configuration which is the same across runs, used in the key of cached scans,
+     * or null if its result filter has none, see {@link FilterBuilder#describe(Predicate)}
+     */
+    @Nullable
+    public String getSignature() {
+        String filter = FilterBuilder.describe(resultFilter);
+        return (filter != null) ? getClass().getName() + '(' + filter + ')' : null;
+    }
+
     //
     @Override
     public boolean acceptResult(String fqn) {
@@ -0,0 +1,45 @@
+package org.reflections.scanners;
+
+import java.util.Map;
+
+import static org.reflections.util.AnnotationValues.key;
+
+/**
+ * scans for the member values of class's, method's, constructor's and field's annotations,
+ * so that queries by annotation member values, such as {@link org.reflections.Reflections#getTypesAnnotatedWith(java.lang.annotation.Annotation)},
+ * resolve only the matching elements
+ * <p>for each annotated element, indexes the annotation type, the annotation type and each member set explicitly,
+ * and the annotation type, member and its value, see {@link org.reflections.util.AnnotationValues}.
+ * annotations having a member whose value can not be encoded, such as a nested annotation, are not indexed
+ */
+@SuppressWarnings("unchecked")
+public class AnnotationValuesScanner extends AbstractScanner {
+
+    @Override
+    public void scan(Object cls) {
+        String className = getMetadataAdapter().getClassName(cls);
+        put(getMetadataAdapter().getClassAnnotationValues(cls), className);
+
+        for (Object field : getMetadataAdapter().getFields(cls)) {
+            put(getMetadataAdapter().getFieldAnnotationValues(field),
+                String.format("%s.%s", className, getMetadataAdapter().getFieldName(field)));
+        }
+        for (Object method : getMetadataAdapter().getMethods(cls)) {
+            put(getMetadataAdapter().getMethodAnnotationValues(method),
+                getMetadataAdapter().getMethodFullKey(cls, method));
+        }
+    }
+
+    private void put(Map<String, Map<String, String>> annotations, String element) {
+        for (Map.Entry<String, Map<String, String>> annotation : annotations.entrySet()) {
+            String annotationType = annotation.getKey();
+            if (acceptResult(annotationType) && !annotation.getValue().containsValue(null)) {
+                getStore().put(annotationType, element);
+                for (Map.Entry<String, String> member : annotation.getValue().entrySet()) {
+                    getStore().put(key(annotationType, member.getKey()), element);
+                    getStore().put(key(annotationType, member.getKey(), member.getValue()), element);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.reflections.scanners;
 
 import com.google.common.base.Joiner;
+import javassist.bytecode.CodeAttribute;
 import javassist.bytecode.LocalVariableAttribute;
 import javassist.bytecode.MethodInfo;
 import org.reflections.adapters.MetadataAdapter;
@@ -22,9 +23,13 @@ public class MethodParameterNamesScanner extends AbstractScanner {
         for (Object method : md.getMethods(cls)) {
             String key = md.getMethodFullKey(cls, method);
             if (acceptResult(key)) {
-                LocalVariableAttribute table = (LocalVariableAttribute) ((MethodInfo) method).getCodeAttribute()
-                                                                                             .getAttribute(
-                                                                                                     LocalVariableAttribute.tag);
+                CodeAttribute codeAttribute = ((MethodInfo) method).getCodeAttribute();
+                LocalVariableAttribute table = (codeAttribute != null)
+                                               ? (LocalVariableAttribute) codeAttribute.getAttribute(LocalVariableAttribute.tag)
+                                               : null; //abstract or native
+                if (table == null) {
+                    continue;
+                }
                 int length = table.tableLength();
                 int i      = Modifier.isStatic(((MethodInfo) method).getAccessFlags()) ? 0 : 1; //skip this
                 if (i < length) {
@@ -77,4 +77,13 @@ public class TypeElementsScanner extends AbstractScanner {
     }
 
     public TypeElementsScanner publicOnly() { return publicOnly(true); }
+
+    @Override
+    public String getSignature() {
+        String signature = super.getSignature();
+        return (signature != null)
+               ? String.format("%s[fields=%s, methods=%s, annotations=%s, publicOnly=%s]",
+                               signature, includeFields, includeMethods, includeAnnotations, publicOnly)
+               : null;
+    }
 }
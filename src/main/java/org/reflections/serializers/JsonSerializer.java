@@ -1,15 +1,15 @@
 package org.reflections.serializers;
 
-import com.google.common.collect.*;
-import com.google.common.io.Files;
-import com.google.gson.*;
-import org.reflections.Reflections;
+import com.google.gson.stream.*;
+import org.reflections.*;
+import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.Utils;
 
 import java.io.*;
-import java.nio.charset.Charset;
-import java.util.HashMap;
-import java.util.Map.Entry;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * serialization of Reflections to json
@@ -22,54 +22,115 @@ import java.util.Map.Entry;
  *       "org.reflections.TestModel$AC2":["org.reflections.TestModel$I3",
  * ...
  * </pre>
+ * <p>reading and writing is streamed using gson's {@link JsonReader} and {@link JsonWriter}, entries are put into / taken from the
+ * {@link org.reflections.Store} one by one, so that no intermediate object tree or string is held in memory
  */
 public class JsonSerializer implements Serializer {
 
-    private Gson gson;
-
     @Override
     public Reflections read(InputStream inputStream) {
-        return getGson().fromJson(new InputStreamReader(inputStream), Reflections.class);
+        Reflections reflections;
+        try {
+            Constructor<Reflections> constructor = Reflections.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            reflections = constructor.newInstance();
+        } catch (Exception e) {
+            reflections = new Reflections(new ConfigurationBuilder());
+        }
+
+        try {
+            JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream,
+                                                                                        StandardCharsets.UTF_8)));
+            readReflections(reader, reflections.getStore());
+        } catch (IOException | IllegalStateException e) {
+            throw new ReflectionsException("could not read.", e);
+        }
+
+        return reflections;
     }
 
     @Override
     public File save(Reflections reflections, String filename) {
+        File file = Utils.prepareFile(filename);
+
+        Writer writer = null;
         try {
-            File file = Utils.prepareFile(filename);
-            Files.write(toString(reflections), file, Charset.defaultCharset());
-            return file;
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+            write(reflections.getStore(), writer);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ReflectionsException("could not save to file " + filename, e);
+        } finally {
+            Utils.close(writer);
         }
+
+        return file;
     }
 
     @Override
     public String toString(Reflections reflections) {
-        return getGson().toJson(reflections);
+        try {
+            StringWriter writer = new StringWriter();
+            write(reflections.getStore(), writer);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new ReflectionsException("could not serialize to json", e);
+        }
+    }
+
+    private static void readReflections(JsonReader reader, Store store) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("store".equals(reader.nextName())) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("storeMap".equals(reader.nextName())) {
+                        readStoreMap(reader, store);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
     }
 
-    private Gson getGson() {
-        if (gson == null) {
-            gson = new GsonBuilder().registerTypeAdapter(Multimap.class,
-                                                         (com.google.gson.JsonSerializer<Multimap>) (multimap, type, jsonSerializationContext) -> jsonSerializationContext
-                                                                 .serialize(multimap.asMap()))
-                                    .registerTypeAdapter(Multimap.class,
-                                                         (JsonDeserializer<Multimap>) (jsonElement, type, jsonDeserializationContext) -> {
-                                                             SetMultimap<String, String> map = Multimaps.newSetMultimap(
-                                                                     new HashMap<>(),
-                                                                     Sets::newHashSet);
-                                                             for (Entry<String, JsonElement> entry : ((JsonObject) jsonElement)
-                                                                     .entrySet()) {
-                                                                 for (JsonElement element : (JsonArray) entry.getValue()) {
-                                                                     map.get(entry.getKey()).add(element.getAsString());
-                                                                 }
-                                                             }
-                                                             return map;
-                                                         })
-                                    .setPrettyPrinting()
-                                    .create();
+    private static void readStoreMap(JsonReader reader, Store store) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String index = reader.nextName();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    store.getOrCreate(index).put(key, reader.nextString());
+                }
+                reader.endArray();
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+    }
 
+    private static void write(Store store, Writer out) throws IOException {
+        JsonWriter writer = new JsonWriter(out);
+        writer.setIndent("  ");
+        writer.beginObject().name("store").beginObject().name("storeMap").beginObject();
+        for (String indexName : store.keySet()) {
+            writer.name(indexName).beginObject();
+            for (Map.Entry<String, Collection<String>> entry : store.get(indexName).asMap().entrySet()) {
+                writer.name(entry.getKey()).beginArray();
+                for (String value : entry.getValue()) {
+                    writer.value(value);
+                }
+                writer.endArray();
+            }
+            writer.endObject();
         }
-        return gson;
+        writer.endObject().endObject().endObject();
+        writer.flush();
     }
 }
@@ -1,13 +1,15 @@
 package org.reflections.serializers;
 
-import org.dom4j.*;
-import org.dom4j.io.*;
 import org.reflections.*;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.Utils;
 
+import javax.xml.stream.*;
 import java.io.*;
 import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * serialization of Reflections to xml
@@ -25,9 +27,13 @@ import java.lang.reflect.Constructor;
  *              &#60value>fully.qualified.name.2&#60/value>
  * ...
  * </pre>
+ * <p>reading and writing is streamed using {@link javax.xml.stream}, entries are put into / taken from the
+ * {@link org.reflections.Store} one by one, so that no intermediate document is held in memory
  */
 public class XmlSerializer implements Serializer {
 
+    private static final String INDENT = "  ";
+
     @Override
     public Reflections read(InputStream inputStream) {
         Reflections reflections;
@@ -39,24 +45,14 @@ public class XmlSerializer implements Serializer {
             reflections = new Reflections(new ConfigurationBuilder());
         }
 
+        XMLStreamReader reader = null;
         try {
-            Document document = new SAXReader().read(inputStream);
-            for (Object e1 : document.getRootElement().elements()) {
-                Element index = (Element) e1;
-                for (Object e2 : index.elements()) {
-                    Element entry  = (Element) e2;
-                    Element key    = entry.element("key");
-                    Element values = entry.element("values");
-                    for (Object o3 : values.elements()) {
-                        Node value = (Node) o3;
-                        reflections.getStore().getOrCreate(index.getName()).put(key.getText(), value.getText());
-                    }
-                }
-            }
-        } catch (DocumentException e) {
+            reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+            read(reader, reflections.getStore());
+        } catch (XMLStreamException e) {
             throw new ReflectionsException("could not read.", e);
-        } catch (Throwable e) {
-            throw new RuntimeException("Could not read. Make sure relevant dependencies exist on classpath.", e);
+        } finally {
+            close(reader);
         }
 
         return reflections;
@@ -66,17 +62,14 @@ public class XmlSerializer implements Serializer {
     public File save(Reflections reflections, String filename) {
         File file = Utils.prepareFile(filename);
 
-
+        OutputStream outputStream = null;
         try {
-            Document  document  = createDocument(reflections);
-            XMLWriter xmlWriter = new XMLWriter(new FileOutputStream(file), OutputFormat.createPrettyPrint());
-            xmlWriter.write(document);
-            xmlWriter.close();
-        } catch (IOException e) {
+            outputStream = new BufferedOutputStream(new FileOutputStream(file));
+            write(reflections.getStore(), new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        } catch (IOException | XMLStreamException e) {
             throw new ReflectionsException("could not save to file " + filename, e);
-        } catch (Throwable e) {
-            throw new RuntimeException(
-                    "Could not save to file " + filename + ". Make sure relevant dependencies exist on classpath.", e);
+        } finally {
+            Utils.close(outputStream);
         }
 
         return file;
@@ -84,35 +77,103 @@ public class XmlSerializer implements Serializer {
 
     @Override
     public String toString(Reflections reflections) {
-        Document document = createDocument(reflections);
-
         try {
-            StringWriter writer    = new StringWriter();
-            XMLWriter    xmlWriter = new XMLWriter(writer, OutputFormat.createPrettyPrint());
-            xmlWriter.write(document);
-            xmlWriter.close();
+            StringWriter writer = new StringWriter();
+            write(reflections.getStore(), writer);
             return writer.toString();
-        } catch (IOException e) {
-            throw new RuntimeException();
+        } catch (IOException | XMLStreamException e) {
+            throw new ReflectionsException("could not serialize to xml", e);
         }
     }
 
-    private static Document createDocument(Reflections reflections) {
-        Store map = reflections.getStore();
+    /**
+     * reads the {@code Reflections/index/entry/key|values/value} structure, putting each value into the store as it is encountered
+     */
+    private static void read(XMLStreamReader reader, Store store) throws XMLStreamException {
+        int    depth = 0;
+        String index = null;
+        String key   = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 2) {
+                    index = reader.getLocalName();
+                } else if ((depth == 4) && "key".equals(reader.getLocalName())) {
+                    key = reader.getElementText().trim();
+                    depth--;
+                } else if ((depth == 5) && "value".equals(reader.getLocalName())) {
+                    store.getOrCreate(index).put(key, reader.getElementText().trim());
+                    depth--;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 3) {
+                    key = null;
+                }
+                depth--;
+            }
+        }
+    }
 
-        Document document = DocumentFactory.getInstance().createDocument();
-        Element  root     = document.addElement("Reflections");
-        for (String indexName : map.keySet()) {
-            Element indexElement = root.addElement(indexName);
-            for (String key : map.get(indexName).keySet()) {
-                Element entryElement = indexElement.addElement("entry");
-                entryElement.addElement("key").setText(key);
-                Element valuesElement = entryElement.addElement("values");
-                for (String value : map.get(indexName).get(key)) {
-                    valuesElement.addElement("value").setText(value);
+    private static void write(Store store, Writer out) throws XMLStreamException, IOException {
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeCharacters("\n\n");
+        writer.writeStartElement("Reflections");
+        for (String indexName : store.keySet()) {
+            indent(writer, 1);
+            if (store.get(indexName).isEmpty()) {
+                writer.writeEmptyElement(indexName);
+                continue;
+            }
+            writer.writeStartElement(indexName);
+            for (Map.Entry<String, Collection<String>> entry : store.get(indexName).asMap().entrySet()) {
+                indent(writer, 2);
+                writer.writeStartElement("entry");
+                indent(writer, 3);
+                writer.writeStartElement("key");
+                writer.writeCharacters(entry.getKey());
+                writer.writeEndElement();
+                indent(writer, 3);
+                writer.writeStartElement("values");
+                for (String value : entry.getValue()) {
+                    indent(writer, 4);
+                    writer.writeStartElement("value");
+                    writer.writeCharacters(value);
+                    writer.writeEndElement();
                 }
+                indent(writer, 3);
+                writer.writeEndElement();
+                indent(writer, 2);
+                writer.writeEndElement();
+            }
+            indent(writer, 1);
+            writer.writeEndElement();
+        }
+        indent(writer, 0);
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+        writer.close();
+        out.flush();
+    }
+
+    private static void indent(XMLStreamWriter writer, int level) throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < level; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    private static void close(XMLStreamReader reader) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("Could not close XMLStreamReader", e);
             }
         }
-        return document;
     }
 }
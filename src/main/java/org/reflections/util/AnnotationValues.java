@@ -0,0 +1,100 @@
+package org.reflections.util;
+
+import org.reflections.ReflectionsException;
+
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * encodes annotation member values as strings, the same for values read from class files and for runtime values,
+ * and the keys of the {@link org.reflections.scanners.AnnotationValuesScanner} index
+ * <p>strings, primitives and enum constants are encoded as is, classes by their name such as {@code java.lang.String[]},
+ * and arrays as their encoded elements, comma separated and escaped, within brackets.
+ * nested annotations are not encoded
+ */
+public final class AnnotationValues {
+
+    private AnnotationValues() {
+    }
+
+    /**
+     * the key of elements having the given annotation member set explicitly
+     */
+    public static String key(String annotationType, String member) {
+        return annotationType + '#' + member;
+    }
+
+    /**
+     * the key of elements having the given annotation member set explicitly to the given encoded value
+     */
+    public static String key(String annotationType, String member, String value) {
+        return key(annotationType, member) + '=' + value;
+    }
+
+    /**
+     * encodes the given runtime annotation member value, or returns null if it can not be encoded
+     */
+    @Nullable
+    public static String encode(Object value) {
+        if (value instanceof Annotation) {
+            return null;
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof Class) {
+            return Utils.name((Class) value);
+        } else if (value.getClass().isArray()) {
+            List<String> elements = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                String element = encode(Array.get(value, i));
+                if (element == null) {
+                    return null;
+                }
+                elements.add(element);
+            }
+            return encodeArray(elements);
+        } else {
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * encodes an array of the given encoded elements
+     */
+    public static String encodeArray(List<String> elements) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (String element : elements) {
+            joiner.add(element.replace("\\", "\\\\").replace(",", "\\,"));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * encodes the member values of the given annotation, keyed by member name, or returns null if any of them can not be encoded
+     */
+    @Nullable
+    public static Map<String, String> encode(Annotation annotation) {
+        Map<String, String> result = new HashMap<>();
+        for (Method member : annotation.annotationType().getDeclaredMethods()) {
+            String value;
+            try {
+                value = encode(member.invoke(annotation));
+            } catch (Exception e) {
+                throw new ReflectionsException(String.format("could not invoke method %s on annotation %s",
+                                                             member.getName(),
+                                                             annotation.annotationType()), e);
+            }
+            if (value == null) {
+                return null;
+            }
+            result.put(member.getName(), value);
+        }
+        return result;
+    }
+}
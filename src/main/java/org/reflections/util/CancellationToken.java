@@ -0,0 +1,26 @@
+package org.reflections.util;
+
+/**
+ * cancels a scan in progress, which then stops cleanly, leaving the urls not yet scanned marked as skipped or partial
+ * <pre>
+ *     CancellationToken token = new CancellationToken();
+ *     CompletableFuture&#60Reflections> future = Reflections.scanAsync(new ConfigurationBuilder()
+ *          .forPackages("my.package")
+ *          .setCancellationToken(token));
+ *     //on shutdown
+ *     token.cancel();
+ * </pre>
+ * <p>see {@link org.reflections.Reflections#getSkippedUrls()} and {@link org.reflections.Reflections#getPartialUrls()}
+ */
+public class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,82 @@
+package org.reflections.util;
+
+import javassist.bytecode.ClassFile;
+import org.reflections.ReflectionUtils;
+import org.reflections.Reflections;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * reads the immediate super types of types from their class files, fetched as resources of the class loaders, without loading classes
+ * <p>results are cached per class loader, and released once the class loader is garbage collected.
+ * a class loader not having a class file is cached as well, while a class file which could not be read is read again next time.
+ * <p>see {@link org.reflections.util.ConfigurationBuilder#setExpandSuperTypesFromClassFiles(boolean)}
+ */
+public final class ClassFileSuperTypes {
+
+    private static final Optional<List<String>> NOT_FOUND = Optional.empty();
+
+    private static final Map<ClassLoader, Map<String, Optional<List<String>>>> cache =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ClassFileSuperTypes() {
+    }
+
+    /**
+     * get the names of the immediate superclass and interfaces of the given type, read from the class file of the first
+     * class loader having it, or null if no class loader has a readable class file of the given type
+     * <p>{@code java.lang.Object} is included only if {@link org.reflections.ReflectionUtils#includeObject} is true
+     */
+    @Nullable
+    public static List<String> getSuperTypes(String type, ClassLoader... classLoaders) {
+        for (ClassLoader classLoader : ClasspathHelper.classLoaders(classLoaders)) {
+            Optional<List<String>> superTypes = cache(classLoader).computeIfAbsent(type,
+                                                                                  key -> read(key, classLoader));
+            if ((superTypes != null) && superTypes.isPresent()) {
+                List<String> result = superTypes.get();
+                return (ReflectionUtils.includeObject || result.isEmpty() || !result.get(0).equals(Object.class.getName()))
+                       ? result
+                       : result.subList(1, result.size());
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Optional<List<String>>> cache(ClassLoader classLoader) {
+        synchronized (cache) {
+            return cache.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * reads the superclass, if not an interface, followed by the interfaces of the given type.
+     * returns {@link #NOT_FOUND} if the class loader has no class file of it, or null if it could not be read
+     */
+    @Nullable
+    private static Optional<List<String>> read(String type, ClassLoader classLoader) {
+        try (InputStream inputStream = classLoader.getResourceAsStream(type.replace('.', '/') + ".class")) {
+            if (inputStream == null) {
+                return NOT_FOUND;
+            }
+            ClassFile    classFile  = new ClassFile(new DataInputStream(new BufferedInputStream(inputStream)));
+            List<String> superTypes = new ArrayList<>();
+            String       superclass = classFile.getSuperclass();
+            if ((superclass != null) && !classFile.isInterface()) {
+                superTypes.add(superclass);
+            }
+            superTypes.addAll(Arrays.asList(classFile.getInterfaces()));
+            return Optional.of(Collections.unmodifiableList(superTypes));
+        } catch (IOException | RuntimeException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not read class file of " + type + " from " + classLoader, e);
+            }
+            return null; //not cached, it might be readable next time
+        }
+    }
+}
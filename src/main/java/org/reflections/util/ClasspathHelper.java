@@ -1,11 +1,17 @@
 package org.reflections.util;
 
 import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
 
+import javax.annotation.Nullable;
 import javax.servlet.ServletContext;
 import java.io.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes.Name;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -15,6 +21,40 @@ import java.util.jar.Manifest;
  */
 public abstract class ClasspathHelper {
 
+    private static final Map<ClassLoader, Map<String, List<URL>>> cache =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static volatile boolean cacheEnabled;
+
+    /**
+     * Sets whether the URLs found by {@link #forPackage(String, ClassLoader...)} and
+     * {@link #forResource(String, ClassLoader...)} are cached per class loader and resource name, false by default.
+     * <p>
+     * Enable it only if the class loaders do not get new URLs, or call {@link #clearCache()} when they do.
+     * Cached URLs are released once their class loader is garbage collected. Disabling the cache clears it.
+     */
+    public static void setCacheEnabled(boolean enabled) {
+        cacheEnabled = enabled;
+        if (!enabled) {
+            clearCache();
+        }
+    }
+
+    /**
+     * Returns whether the URLs found by {@link #forPackage(String, ClassLoader...)} and
+     * {@link #forResource(String, ClassLoader...)} are cached.
+     */
+    public static boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Clears the cached URLs, for example after URLs were added to a class loader.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
     /**
      * Gets the current thread context class loader.
      * {@code Thread.currentThread().getContextClassLoader()}.
@@ -93,16 +133,19 @@ public abstract class ClasspathHelper {
         ClassLoader[]   loaders = classLoaders(classLoaders);
         for (ClassLoader classLoader : loaders) {
             try {
-                Enumeration<URL> urls = classLoader.getResources(resourceName);
-                while (urls.hasMoreElements()) {
-                    URL url   = urls.nextElement();
-                    int index = url.toExternalForm().lastIndexOf(resourceName);
-                    if (index == -1) {
-                        result.add(url);
-                    } else {
-                        // Add old url as contextUrl to support exotic url handlers
-                        result.add(new URL(url, url.toExternalForm().substring(0, index)));
+                if (cacheEnabled) {
+                    Map<String, List<URL>> urls;
+                    synchronized (cache) {
+                        urls = cache.computeIfAbsent(classLoader, key -> new ConcurrentHashMap<>());
+                    }
+                    List<URL> cached = urls.get(resourceName);
+                    if (cached == null) {
+                        cached = getResources(resourceName, classLoader);
+                        urls.putIfAbsent(resourceName, cached);
                     }
+                    result.addAll(cached);
+                } else {
+                    result.addAll(getResources(resourceName, classLoader));
                 }
             } catch (IOException e) {
                 if (Reflections.log != null) {
@@ -113,6 +156,22 @@ public abstract class ClasspathHelper {
         return distinctUrls(result);
     }
 
+    private static List<URL> getResources(String resourceName, ClassLoader classLoader) throws IOException {
+        List<URL>        result = new ArrayList<>();
+        Enumeration<URL> urls   = classLoader.getResources(resourceName);
+        while (urls.hasMoreElements()) {
+            URL url   = urls.nextElement();
+            int index = url.toExternalForm().lastIndexOf(resourceName);
+            if (index == -1) {
+                result.add(url);
+            } else {
+                // Add old url as contextUrl to support exotic url handlers
+                result.add(new URL(url, url.toExternalForm().substring(0, index)));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     /**
      * Returns the URL that contains a {@code Class}.
      * <p>
@@ -289,11 +348,10 @@ public abstract class ClasspathHelper {
     public static Collection<URL> forManifest(URL url) {
         Collection<URL> result = new ArrayList<>();
         result.add(url);
-        try {
-            String  part     = cleanPath(url);
-            File    jarFile  = new File(part);
-            JarFile myJar    = new JarFile(part);
-            URL     validUrl = tryToGetValidUrl(jarFile.getPath(), new File(part).getParent(), part);
+        String part = cleanPath(url);
+        try (JarFile myJar = new JarFile(part)) {
+            File jarFile  = new File(part);
+            URL  validUrl = tryToGetValidUrl(jarFile.getPath(), jarFile.getParent(), part);
             if (validUrl != null) {
                 result.add(validUrl);
             }
@@ -302,7 +360,7 @@ public abstract class ClasspathHelper {
                 String classPath = manifest.getMainAttributes().getValue(new Name("Class-Path"));
                 if (classPath != null) {
                     for (String jar : classPath.split(" ")) {
-                        validUrl = tryToGetValidUrl(jarFile.getPath(), new File(part).getParent(), jar);
+                        validUrl = tryToGetValidUrl(jarFile.getPath(), jarFile.getParent(), jar);
                         if (validUrl != null) {
                             result.add(validUrl);
                         }
@@ -328,10 +386,46 @@ public abstract class ClasspathHelper {
      * @return the collection of URLs, not null
      */
     public static Collection<URL> forManifest(Iterable<URL> urls) {
+        return forManifest(urls, null);
+    }
+
+    /**
+     * Returns a distinct collection of URLs by expanding the specified URLs with Manifest information,
+     * same as {@link #forManifest(Iterable)}, reading the jar files in parallel on the given executor service.
+     * <p>
+     * Reading jar files blocks on I/O, so the executor service should not be the common fork join pool.
+     * If the executor service is null, the jar files are read sequentially.
+     *
+     * @return the collection of URLs, not null
+     */
+    public static Collection<URL> forManifest(Iterable<URL> urls, @Nullable ExecutorService executorService) {
         Collection<URL> result = new ArrayList<>();
-        // determine if any of the URLs are JARs, and get any dependencies
-        for (URL url : urls) {
-            result.addAll(forManifest(url));
+        if (executorService == null) {
+            // determine if any of the URLs are JARs, and get any dependencies
+            for (URL url : urls) {
+                result.addAll(forManifest(url));
+            }
+        } else {
+            List<Future<Collection<URL>>> futures = new ArrayList<>();
+            for (URL url : urls) {
+                futures.add(executorService.submit(() -> forManifest(url)));
+            }
+            try {
+                for (Future<Collection<URL>> future : futures) {
+                    result.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReflectionsException("interrupted while reading manifests", e);
+            } catch (ExecutionException e) {
+                throw (e.getCause() instanceof RuntimeException)
+                      ? (RuntimeException) e.getCause()
+                      : new ReflectionsException("could not read manifests", e.getCause());
+            } finally {
+                for (Future<Collection<URL>> future : futures) {
+                    future.cancel(true);
+                }
+            }
         }
         return distinctUrls(result);
     }
@@ -397,9 +491,28 @@ public abstract class ClasspathHelper {
     private static Collection<URL> distinctUrls(Collection<URL> urls) {
         Map<String, URL> distinct = new LinkedHashMap<>(urls.size());
         for (URL url : urls) {
-            distinct.put(url.toExternalForm(), url);
+            distinct.putIfAbsent(canonical(url), url);
         }
         return distinct.values();
     }
-}
 
+    /**
+     * the canonical form of the given URL, equal for URLs of the same location,
+     * such as {@code file:/a/b/} and {@code FILE:///a/./b/}, without resolving host names as {@link URL#equals(Object)} does
+     */
+    static String canonical(URL url) {
+        try {
+            URI    uri    = url.toURI();
+            String scheme = (uri.getScheme() != null) ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+            if (uri.isOpaque()) {
+                return new URI(scheme, uri.getSchemeSpecificPart(), uri.getFragment()).toString();
+            }
+            String authority = ((uri.getAuthority() == null) || uri.getAuthority().isEmpty()) ? null
+                               : (uri.getUserInfo() == null) ? uri.getAuthority().toLowerCase(Locale.ROOT)
+                               : uri.getAuthority();
+            return new URI(scheme, authority, uri.getPath(), uri.getQuery(), uri.getFragment()).normalize().toString();
+        } catch (URISyntaxException e) {
+            return url.toExternalForm();
+        }
+    }
+}
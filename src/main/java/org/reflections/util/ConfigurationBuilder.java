@@ -2,7 +2,6 @@ package org.reflections.util;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.*;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.reflections.*;
 import org.reflections.adapters.*;
 import org.reflections.scanners.Scanner;
@@ -12,6 +11,7 @@ import org.reflections.serializers.XmlSerializer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.*;
@@ -39,8 +39,19 @@ public class ConfigurationBuilder implements Configuration {
     @Nullable private Predicate<String> inputsFilter;
     /*lazy*/ private Serializer serializer;
     @Nullable private ExecutorService executorService;
+    private           int             parallelism;
+    private           boolean         virtualThreads;
     @Nullable private ClassLoader[]   classLoaders;
     private           boolean         expandSuperTypes = true;
+    private           boolean         expandSuperTypesFromClassFiles;
+    @Nullable private File            incrementalScanDir;
+    private           boolean         hashUrlContents;
+    @Nullable private File            scanCacheDir;
+    private           boolean         trackSources;
+    private           long            scanTimeoutMillis;
+    @Nullable private CancellationToken cancellationToken;
+    @Nullable private ScanListener    scanListener;
+    private           boolean         registerMBean;
 
     public ConfigurationBuilder() {
         scanners = Sets.newHashSet(new TypeAnnotationsScanner(), new SubTypesScanner());
@@ -280,12 +291,25 @@ public class ConfigurationBuilder implements Configuration {
 
     /**
      * sets the executor service used for scanning.
+     * <p>the given executor service is owned by the caller, and is not shut down after scanning, so it can be shared.
      */
     public ConfigurationBuilder setExecutorService(@Nullable ExecutorService executorService) {
         this.executorService = executorService;
+        parallelism = 0;
+        virtualThreads = false;
         return this;
     }
 
+    @Override
+    public int getScanParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean shouldUseVirtualThreads() {
+        return virtualThreads;
+    }
+
     /**
      * sets the executor service used for scanning to ThreadPoolExecutor with core size as {@link java.lang.Runtime#availableProcessors()}
      * <p>default is ThreadPoolExecutor with a single core
@@ -295,15 +319,42 @@ public class ConfigurationBuilder implements Configuration {
     }
 
     /**
-     * sets the executor service used for scanning to ThreadPoolExecutor with core size as the given availableProcessors parameter.
-     * the executor service spawns daemon threads by default.
+     * scans using a ThreadPoolExecutor with core size as the given availableProcessors parameter, spawning daemon threads.
+     * <p>the executor service is created by each scan and shut down after it, so that scans using this configuration do not share it.
      * <p>default is ThreadPoolExecutor with a single core
      */
     public ConfigurationBuilder useParallelExecutor(int availableProcessors) {
-        ThreadFactory factory = new ThreadFactoryBuilder().setDaemon(true)
-                                                          .setNameFormat("org.reflections-scanner-%d")
-                                                          .build();
-        setExecutorService(Executors.newFixedThreadPool(availableProcessors, factory));
+        executorService = null;
+        parallelism = availableProcessors;
+        virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * same as {@link #useVirtualThreads(int)} with {@link java.lang.Runtime#availableProcessors()} parsing threads
+     */
+    public ConfigurationBuilder useVirtualThreads() {
+        return useVirtualThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * scans each url on its own virtual thread, so that blocking reads of slow urls (such as jars on network mounts) do not hold platform threads,
+     * while the files read are parsed and scanned on a ThreadPoolExecutor with core size as the given parsingParallelism parameter.
+     * <p>virtual threads are detected at runtime. if not supported (before java 21), falls back to {@link #useParallelExecutor(int)}
+     * <p>the executor services are created by each scan and shut down after it, so that scans using this configuration do not share them.
+     */
+    public ConfigurationBuilder useVirtualThreads(int parsingParallelism) {
+        ExecutorService virtualThreadExecutor = Utils.newVirtualThreadExecutor();
+        if (virtualThreadExecutor == null) {
+            if (Reflections.log != null) {
+                Reflections.log.info("virtual threads are not supported, using a parallel executor instead");
+            }
+            return useParallelExecutor(parsingParallelism);
+        }
+        virtualThreadExecutor.shutdown();
+        executorService = null;
+        parallelism = parsingParallelism;
+        virtualThreads = true;
         return this;
     }
 
@@ -345,6 +396,132 @@ public class ConfigurationBuilder implements Configuration {
         return this;
     }
 
+    @Override
+    public boolean shouldExpandSuperTypesFromClassFiles() {
+        return expandSuperTypesFromClassFiles;
+    }
+
+    /**
+     * if set to true, super types are expanded by reading their class files rather than by loading them, so that no class is loaded.
+     * <p>see {@link org.reflections.Reflections#expandSuperTypes()}
+     */
+    public ConfigurationBuilder setExpandSuperTypesFromClassFiles(boolean expandSuperTypesFromClassFiles) {
+        this.expandSuperTypesFromClassFiles = expandSuperTypesFromClassFiles;
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public File getIncrementalScanDir() {
+        return incrementalScanDir;
+    }
+
+    /**
+     * sets the directory in which the scan result of each url is saved, so that following scans would only scan urls which changed.
+     * <p>see {@link org.reflections.util.UrlScanCache}
+     */
+    public ConfigurationBuilder setIncrementalScanDir(@Nullable File incrementalScanDir) {
+        this.incrementalScanDir = incrementalScanDir;
+        return this;
+    }
+
+    @Override
+    public boolean shouldHashUrlContents() {
+        return hashUrlContents;
+    }
+
+    /**
+     * if set to true, incremental scanning compares urls contents hash as well, and not only their size and modification time
+     */
+    public ConfigurationBuilder setHashUrlContents(boolean hashUrlContents) {
+        this.hashUrlContents = hashUrlContents;
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public File getScanCacheDir() {
+        return scanCacheDir;
+    }
+
+    /**
+     * sets the directory of a content addressed cache of jar scan results, which can be shared by processes on the same host.
+     * <p>see {@link org.reflections.util.SharedScanCache}
+     */
+    public ConfigurationBuilder setScanCacheDir(@Nullable File scanCacheDir) {
+        this.scanCacheDir = scanCacheDir;
+        return this;
+    }
+
+    @Override
+    public boolean shouldTrackSources() {
+        return trackSources;
+    }
+
+    /**
+     * if set to true, the source url and file of each scanned entry are recorded,
+     * so that they could be removed or reloaded later using {@link org.reflections.Reflections#reload(java.net.URL)}
+     */
+    public ConfigurationBuilder setTrackSources(boolean trackSources) {
+        this.trackSources = trackSources;
+        return this;
+    }
+
+    @Override
+    public long getScanTimeoutMillis() {
+        return scanTimeoutMillis;
+    }
+
+    /**
+     * sets the maximum time for scanning, after which the scan stops and the urls not scanned are marked as skipped or partial,
+     * see {@link org.reflections.Reflections#getSkippedUrls()} and {@link org.reflections.Reflections#getPartialUrls()}
+     */
+    public ConfigurationBuilder setScanTimeout(long timeout, TimeUnit unit) {
+        scanTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * sets the token which stops the scan when cancelled
+     */
+    public ConfigurationBuilder setCancellationToken(@Nullable CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+        return this;
+    }
+
+    @Override
+    @Nullable
+    public ScanListener getScanListener() {
+        return scanListener;
+    }
+
+    /**
+     * sets the listener notified of the scan progress
+     */
+    public ConfigurationBuilder setScanListener(@Nullable ScanListener scanListener) {
+        this.scanListener = scanListener;
+        return this;
+    }
+
+    @Override
+    public boolean shouldRegisterMBean() {
+        return registerMBean;
+    }
+
+    /**
+     * if true, a {@link org.reflections.ReflectionsMXBean} is registered for each Reflections instance, exposing index sizes and query metrics
+     */
+    public ConfigurationBuilder setRegisterMBean(boolean registerMBean) {
+        this.registerMBean = registerMBean;
+        return this;
+    }
+
     /**
      * set class loader, might be used for resolving methods/fields
      */
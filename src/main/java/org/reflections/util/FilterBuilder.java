@@ -2,9 +2,11 @@ package org.reflections.util;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
 import com.google.common.collect.Lists;
 import org.reflections.ReflectionsException;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -79,6 +81,31 @@ public class FilterBuilder implements Predicate<String> {
     @Override
     public String toString() {return Joiner.on(", ").join(chain);}
 
+    /**
+     * a description of the given filter which is the same across runs, or null if it has none.
+     * <p>only a null or {@link Predicates#alwaysTrue()} filter, include/exclude matchers and FilterBuilders made of them
+     * have a stable description, other predicates such as lambdas have none
+     */
+    @Nullable
+    public static String describe(@Nullable Predicate<String> filter) {
+        if ((filter == null) || filter.equals(Predicates.alwaysTrue())) {
+            return "*";
+        } else if (filter instanceof Matcher) {
+            return filter.toString();
+        } else if (filter instanceof FilterBuilder) {
+            List<String> descriptions = new ArrayList<>();
+            for (Predicate<String> predicate : ((FilterBuilder) filter).chain) {
+                String description = describe(predicate);
+                if (description == null) {
+                    return null;
+                }
+                descriptions.add(description);
+            }
+            return '[' + Joiner.on(", ").join(descriptions) + ']';
+        }
+        return null;
+    }
+
     @Override
     public boolean apply(String regex) {
         boolean accept = (chain == null) || chain.isEmpty() || (chain.get(0) instanceof Exclude);
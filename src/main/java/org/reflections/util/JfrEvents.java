@@ -0,0 +1,102 @@
+package org.reflections.util;
+
+import org.reflections.Reflections;
+
+import javax.annotation.Nullable;
+
+/**
+ * emits java flight recorder events for scanning urls, collecting files and querying, when jfr is available
+ * <p>the events are defined in a class which is compiled separately for java 11 (in {@code src/main/java11}),
+ * and loaded reflectively only if {@code jdk.jfr.Event} exists, so that the library still runs on java 8.
+ * on java 8, or when built without the {@code jfr} profile (on a jdk before 11), no events are emitted. while jfr is not recording these events, {@code begin} methods return null and nothing is measured.
+ * <pre>
+ *     Object event = JfrEvents.beginQuery();
+ *     Set&#60Class&#60?>> result = ...;
+ *     JfrEvents.commitQuery(event, "getTypesAnnotatedWith", result.size());
+ * </pre>
+ * <p>events are named {@code org.reflections.UrlScan}, {@code org.reflections.Collect} and {@code org.reflections.Query}
+ */
+public final class JfrEvents {
+
+    @Nullable private static final Recorder recorder = load();
+
+    private JfrEvents() {
+    }
+
+    /**
+     * begins a url scan event, returns null if not recording
+     */
+    @Nullable
+    public static Object beginUrlScan() {
+        return (recorder != null) ? recorder.beginUrlScan() : null;
+    }
+
+    public static void commitUrlScan(@Nullable Object event, String url, long files, long bytes) {
+        if (event != null) {
+            recorder.commitUrlScan(event, url, files, bytes);
+        }
+    }
+
+    /**
+     * begins a collect event, returns null if not recording
+     */
+    @Nullable
+    public static Object beginCollect() {
+        return (recorder != null) ? recorder.beginCollect() : null;
+    }
+
+    public static void commitCollect(@Nullable Object event, String file) {
+        if (event != null) {
+            recorder.commitCollect(event, file);
+        }
+    }
+
+    /**
+     * begins a query event, returns null if not recording
+     */
+    @Nullable
+    public static Object beginQuery() {
+        return (recorder != null) ? recorder.beginQuery() : null;
+    }
+
+    public static void commitQuery(@Nullable Object event, String method, int resultSize) {
+        if (event != null) {
+            recorder.commitQuery(event, method, resultSize);
+        }
+    }
+
+    @Nullable
+    private static Recorder load() {
+        try {
+            Class.forName("jdk.jfr.Event");
+        } catch (Throwable e) {
+            return null; //jfr not available
+        }
+        try {
+            return (Recorder) Class.forName("org.reflections.util.JfrRecorder").getDeclaredConstructor().newInstance();
+        } catch (Throwable e) {
+            if (Reflections.log != null) {
+                Reflections.log.debug("could not load jfr events. continuing without them", e);
+            }
+            return null;
+        }
+    }
+
+    interface Recorder {
+
+        @Nullable
+        Object beginUrlScan();
+
+        void commitUrlScan(Object event, String url, long files, long bytes);
+
+        @Nullable
+        Object beginCollect();
+
+        void commitCollect(Object event, String file);
+
+        @Nullable
+        Object beginQuery();
+
+        void commitQuery(Object event, String method, int resultSize);
+    }
+}
@@ -0,0 +1,202 @@
+package org.reflections.util;
+
+import com.google.common.base.Supplier;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.vfs.Vfs;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.URL;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * a content addressed cache of jar scan results, which can be shared by all processes on a host
+ * <p>the scan result of a jar file is saved under the hash of the jar contents and the signature of the scanners, their result filters
+ * and the inputs filter, see {@link UrlScanCache#signature(org.reflections.Configuration)},
+ * so that any process scanning an identical jar with the same configuration reuses it instead of scanning the jar.
+ * <p>results are written to a temporary file and atomically moved in place, while holding a file lock on the entry,
+ * so that concurrent processes scanning the same jar wait for the first one and then read its result. the lock file is deleted once the result is in place.
+ * <p>the hash of a jar's contents is saved under its path, size and modification time, so that an unchanged jar is hashed only once,
+ * and a jar modified without changing its size and modification time is not rehashed.
+ * <p>urls which are not jar files, such as class directories, are always scanned.
+ * <p>see {@link org.reflections.util.ConfigurationBuilder#setScanCacheDir(java.io.File)}
+ */
+public class SharedScanCache {
+
+    private final File          directory;
+    private final String        signature;
+    private final XmlSerializer serializer = new XmlSerializer();
+
+    public SharedScanCache(File directory, String signature) {
+        this.directory = directory;
+        this.signature = Hashing.sha256().hashString(signature, StandardCharsets.UTF_8).toString().substring(0, 16);
+    }
+
+    /**
+     * returns the cached scan result of the given url if exists, otherwise scans it using the given {@code scan} and caches the result
+     */
+    public Reflections getOrScan(URL url, Supplier<Reflections> scan) {
+        String key = key(url);
+        if (key == null) {
+            return scan.get();
+        }
+
+        File        file   = new File(directory, key + ".xml");
+        Reflections cached = read(file);
+        if (cached != null) {
+            return cached;
+        }
+
+        Utils.prepareFile(file.getPath());
+        Reflections      reflections = null;
+        File             lockPath    = new File(directory, key + ".lock");
+        RandomAccessFile lockFile    = null;
+        FileLock         lock        = null;
+        boolean          published   = false;
+        File             temp        = new File(directory, key + '.' + UUID.randomUUID() + ".tmp");
+        try {
+            lockFile = new RandomAccessFile(lockPath, "rw");
+            lock = lockFile.getChannel().lock();
+
+            //another process might have written it while waiting for the lock
+            cached = read(file);
+            if (cached != null) {
+                published = true;
+                return cached;
+            }
+
+            reflections = scan.get();
+            published = save(reflections, temp, file);
+        } catch (IOException | OverlappingFileLockException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not use scan cache for url " + url + ". scanning without caching", e);
+            }
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            if (published) {
+                //deleted while locked, processes waiting for the lock then read the result, later ones read it without locking
+                //noinspection ResultOfMethodCallIgnored
+                lockPath.delete();
+            }
+            try {
+                if (lock != null) {
+                    lock.release();
+                }
+            } catch (IOException e) {
+                if (Reflections.log != null) {
+                    Reflections.log.warn("Could not release scan cache lock", e);
+                }
+            }
+            Utils.close(lockFile);
+        }
+        return (reflections != null) ? reflections : scan.get();
+    }
+
+    /**
+     * saves the given scan result to the temporary file and moves it in place, returning true if saved.
+     * failing to do so is logged and the result is not cached
+     */
+    private boolean save(Reflections reflections, File temp, File file) {
+        try {
+            serializer.save(reflections, temp.getPath());
+            java.nio.file.Files.move(temp.toPath(),
+                                     file.toPath(),
+                                     StandardCopyOption.ATOMIC_MOVE,
+                                     StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException | ReflectionsException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not save scan of " + file.getName() + " to the scan cache", e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * returns the cache key of the given url, or null if it is not a jar file
+     */
+    @Nullable
+    private String key(URL url) {
+        File   file     = Vfs.getFile(url);
+        String external = url.toExternalForm();
+        if ((file == null) || !file.isFile() || (external.contains("!/") && !external.endsWith("!/"))) {
+            return null; //not a jar file, or a directory within a jar
+        }
+        try {
+            return contentHash(file) + "-" + signature;
+        } catch (IOException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not hash url " + url + ". scanning without caching", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * returns the hash of the contents of the given jar file, reading the one saved under its path, size and modification time if exists,
+     * otherwise hashing the contents and saving the hash
+     */
+    private String contentHash(File jar) throws IOException {
+        String stat = Hashing.sha256()
+                             .hashString(jar.getAbsolutePath() + ':' + jar.length() + ':' + jar.lastModified(), StandardCharsets.UTF_8)
+                             .toString();
+        File hashFile = new File(directory, stat + ".hash");
+        if (hashFile.isFile()) {
+            try {
+                String hash = Files.asCharSource(hashFile, StandardCharsets.UTF_8).read().trim();
+                if (hash.length() == 64) {
+                    return hash;
+                }
+            } catch (IOException e) {
+                //hashed again below
+            }
+        }
+
+        String hash = Files.asByteSource(jar).hash(Hashing.sha256()).toString();
+        File   temp = new File(directory, stat + '.' + UUID.randomUUID() + ".tmp");
+        try {
+            Utils.prepareFile(hashFile.getPath());
+            Files.asCharSink(temp, StandardCharsets.UTF_8).write(hash);
+            java.nio.file.Files.move(temp.toPath(),
+                                     hashFile.toPath(),
+                                     StandardCopyOption.ATOMIC_MOVE,
+                                     StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not save hash of " + jar + " to the scan cache. it will be hashed again", e);
+            }
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+        }
+        return hash;
+    }
+
+    @Nullable
+    private Reflections read(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        InputStream inputStream = null;
+        try {
+            inputStream = new BufferedInputStream(new FileInputStream(file));
+            return serializer.read(inputStream);
+        } catch (Exception e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not read cached scan " + file + ". it will be scanned", e);
+            }
+            return null;
+        } finally {
+            Utils.close(inputStream);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package org.reflections.util;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Ordering;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import org.reflections.Configuration;
+import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.scanners.AbstractScanner;
+import org.reflections.scanners.Scanner;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.vfs.Vfs;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * persists the partial scan result of each url in a directory, along with a fingerprint of the url, for incremental scanning
+ * <p>the fingerprint of a url is its size and last modification time (the greatest one of all files for a directory),
+ * and optionally a hash of its contents. urls which are not local files or directories have no fingerprint, and are always scanned.
+ * <p>the cached results are discarded if the configured scanners, their result filters or the inputs filter change.
+ * caching requires all of them to have a description which is the same across runs, see {@link #signature(Configuration)}
+ * <p>see {@link org.reflections.util.ConfigurationBuilder#setIncrementalScanDir(java.io.File)}
+ */
+public class UrlScanCache {
+
+    private static final String MANIFEST      = "fingerprints.properties";
+    private static final String SIGNATURE_KEY = "#signature";
+
+    private final File                directory;
+    private final boolean             hashContents;
+    private final String              signature;
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+    private final XmlSerializer       serializer = new XmlSerializer();
+
+    public UrlScanCache(File directory, boolean hashContents, String signature) {
+        this.directory = directory;
+        this.hashContents = hashContents;
+        this.signature = signature;
+        previous = loadManifest();
+    }
+
+    /**
+     * returns the fingerprint of the given url, or null if it can not be fingerprinted
+     */
+    @Nullable
+    public String fingerprint(URL url) {
+        File file = Vfs.getFile(url);
+        if ((file == null) || !file.exists()) {
+            return null;
+        }
+        try {
+            long[]       sizeAndTime = {0, 0};
+            List<String> paths       = new ArrayList<>();
+            Hasher       hasher      = Hashing.sha256().newHasher();
+            walk(file, "", sizeAndTime, paths);
+            if (hashContents) {
+                for (String path : Ordering.natural().sortedCopy(paths)) {
+                    hasher.putString(path, StandardCharsets.UTF_8);
+                    hasher.putBytes(Files.toByteArray(path.isEmpty() ? file : new File(file, path)));
+                }
+            }
+            return sizeAndTime[0] + ":" + sizeAndTime[1] + ":" + paths.size() + (hashContents ? ":" + hasher.hash() : "");
+        } catch (IOException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not fingerprint url " + url + ". it will be scanned", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * returns the cached partial scan result of the given url, if it was saved with the same fingerprint, otherwise null
+     */
+    @Nullable
+    public Reflections read(URL url, @Nullable String fingerprint) {
+        if ((fingerprint == null) || !fingerprint.equals(previous.get(url.toExternalForm()))) {
+            return null;
+        }
+        File file = partialFile(url);
+        if (!file.exists()) {
+            return null;
+        }
+        InputStream inputStream = null;
+        try {
+            inputStream = new BufferedInputStream(new FileInputStream(file));
+            Reflections reflections = serializer.read(inputStream);
+            current.put(url.toExternalForm(), fingerprint);
+            return reflections;
+        } catch (Exception e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not read cached scan of url " + url + ". it will be scanned", e);
+            }
+            return null;
+        } finally {
+            Utils.close(inputStream);
+        }
+    }
+
+    /**
+     * saves the partial scan result of the given url with the given fingerprint
+     * <p>failing to save it is logged, and the url is then scanned again next time
+     */
+    public void write(URL url, @Nullable String fingerprint, Reflections partial) {
+        if (fingerprint != null) {
+            File file = partialFile(url);
+            try {
+                serializer.save(partial, file.getPath());
+                current.put(url.toExternalForm(), fingerprint);
+            } catch (ReflectionsException e) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+                if (Reflections.log != null) {
+                    Reflections.log.warn("could not save cached scan of url " + url + ". it will be scanned next time", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * saves the fingerprints of all urls read or written, and deletes cached scans of the other urls
+     */
+    public void flush() {
+        for (String url : previous.keySet()) {
+            if (!current.containsKey(url) && !url.equals(SIGNATURE_KEY)) {
+                //noinspection ResultOfMethodCallIgnored
+                new File(directory, partialFileName(url)).delete();
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.putAll(current);
+        properties.put(SIGNATURE_KEY, signature);
+        OutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(Utils.prepareFile(new File(directory, MANIFEST).getPath()));
+            properties.store(outputStream, "Reflections incremental scan fingerprints");
+        } catch (IOException e) {
+            if (Reflections.log != null) {
+                Reflections.log.warn("could not save incremental scan fingerprints in " + directory, e);
+            }
+        } finally {
+            Utils.close(outputStream);
+        }
+    }
+
+    /**
+     * the signature of the given configuration's scanners, including their result filters, and inputs filter.
+     * cached scans are valid only for the same signature
+     * <p>returns null if any scanner is not an {@link AbstractScanner}, or any filter has no description which is the same across runs,
+     * see {@link FilterBuilder#describe(com.google.common.base.Predicate)}. such a configuration can not be cached
+     */
+    @Nullable
+    public static String signature(Configuration configuration) {
+        List<String> scanners = new ArrayList<>();
+        for (Scanner scanner : configuration.getScanners()) {
+            String signature = (scanner instanceof AbstractScanner) ? ((AbstractScanner) scanner).getSignature() : null;
+            if (signature == null) {
+                return null;
+            }
+            scanners.add(signature);
+        }
+        String inputsFilter = FilterBuilder.describe(configuration.getInputsFilter());
+        if (inputsFilter == null) {
+            return null;
+        }
+        return Joiner.on(",").join(Ordering.natural().sortedCopy(scanners)) + ';' + inputsFilter;
+    }
+
+    private Map<String, String> loadManifest() {
+        Map<String, String> result   = new HashMap<>();
+        File                manifest = new File(directory, MANIFEST);
+        if (manifest.exists()) {
+            Properties  properties  = new Properties();
+            InputStream inputStream = null;
+            try {
+                inputStream = new FileInputStream(manifest);
+                properties.load(inputStream);
+                for (String key : properties.stringPropertyNames()) {
+                    result.put(key, properties.getProperty(key));
+                }
+            } catch (IOException e) {
+                if (Reflections.log != null) {
+                    Reflections.log.warn("could not load incremental scan fingerprints from " + manifest, e);
+                }
+            } finally {
+                Utils.close(inputStream);
+            }
+        }
+        if (!signature.equals(result.get(SIGNATURE_KEY))) {
+            //scanners changed, all cached scans are stale and would be overwritten or deleted on flush
+            Map<String, String> stale = new HashMap<>();
+            for (String key : result.keySet()) {
+                stale.put(key, "");
+            }
+            return stale;
+        }
+        return result;
+    }
+
+    private File partialFile(URL url) {
+        return new File(directory, partialFileName(url.toExternalForm()));
+    }
+
+    private static String partialFileName(String url) {
+        return Hashing.sha256().hashString(url, StandardCharsets.UTF_8) + ".xml";
+    }
+
+    private static void walk(File file, String path, long[] sizeAndTime, List<String> paths) {
+        if (file.isDirectory()) {
+            File[] files = file.listFiles();
+            if (files != null) {
+                for (File child : files) {
+                    walk(child, path.isEmpty() ? child.getName() : path + '/' + child.getName(), sizeAndTime, paths);
+                }
+            }
+        } else {
+            sizeAndTime[0] += file.length();
+            sizeAndTime[1] = Math.max(sizeAndTime[1], file.lastModified());
+            paths.add(path);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.reflections.util;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.reflections.Reflections;
 import org.reflections.ReflectionsException;
 import org.reflections.scanners.Scanner;
@@ -12,6 +13,9 @@ import javax.annotation.Nullable;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import static org.reflections.ReflectionUtils.forName;
 
@@ -214,4 +218,26 @@ public abstract class Utils {
     }
 
     public static String index(Class<? extends Scanner> scannerClass) { return scannerClass.getSimpleName(); }
+
+    /**
+     * a fixed thread pool of the given number of daemon threads, for scanning
+     */
+    public static ExecutorService newParallelExecutor(int threads) {
+        ThreadFactory factory = new ThreadFactoryBuilder().setDaemon(true)
+                                                          .setNameFormat("org.reflections-scanner-%d")
+                                                          .build();
+        return Executors.newFixedThreadPool(threads, factory);
+    }
+
+    /**
+     * returns {@code Executors.newVirtualThreadPerTaskExecutor()} if supported by the runtime, otherwise null
+     */
+    @Nullable
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            return null; //not supported, or a preview feature which is not enabled
+        }
+    }
 }
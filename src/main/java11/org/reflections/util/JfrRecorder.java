@@ -0,0 +1,109 @@
+package org.reflections.util;
+
+import jdk.jfr.*;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * the jfr events, loaded only if jfr is available, see {@link JfrEvents}
+ */
+class JfrRecorder implements JfrEvents.Recorder {
+
+    private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+    @Override
+    public Object beginUrlScan() {
+        UrlScanEvent event = new UrlScanEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitUrlScan(Object event, String url, long files, long bytes) {
+        UrlScanEvent urlScan = (UrlScanEvent) event;
+        urlScan.url = url;
+        urlScan.files = files;
+        urlScan.bytes = bytes;
+        urlScan.commit();
+    }
+
+    @Override
+    public Object beginCollect() {
+        CollectEvent event = new CollectEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitCollect(Object event, String file) {
+        CollectEvent collect = (CollectEvent) event;
+        collect.file = file;
+        collect.commit();
+    }
+
+    @Override
+    public Object beginQuery() {
+        QueryEvent event = new QueryEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.loadedClassCount = classLoading.getTotalLoadedClassCount();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitQuery(Object event, String method, int resultSize) {
+        QueryEvent query = (QueryEvent) event;
+        query.end();
+        query.method = method;
+        query.resultSize = resultSize;
+        query.classesLoaded = classLoading.getTotalLoadedClassCount() - query.loadedClassCount;
+        query.commit();
+    }
+
+    @Name("org.reflections.UrlScan")
+    @Label("Reflections Url Scan")
+    @Category("Reflections")
+    @Description("Scanning of a url, or reading its cached scan")
+    static class UrlScanEvent extends Event {
+        @Label("Url")
+        String url;
+        @Label("Files")
+        long   files;
+        @Label("Bytes Read")
+        @DataAmount
+        long   bytes;
+    }
+
+    @Name("org.reflections.Collect")
+    @Label("Reflections Collect")
+    @Category("Reflections")
+    @Description("Reading of a saved Reflections file")
+    static class CollectEvent extends Event {
+        @Label("File")
+        String file;
+    }
+
+    @Name("org.reflections.Query")
+    @Label("Reflections Query")
+    @Category("Reflections")
+    @Description("A Reflections query method")
+    static class QueryEvent extends Event {
+        @Label("Method")
+        String method;
+        @Label("Result Size")
+        int    resultSize;
+        @Label("Classes Loaded")
+        @Description("Classes loaded by the JVM during the query, including by other threads")
+        long   classesLoaded;
+        transient long loadedClassCount;
+    }
+}
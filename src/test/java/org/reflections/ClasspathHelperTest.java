@@ -4,8 +4,18 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.reflections.util.ClasspathHelper;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.net.*;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 /**
  * Test ClasspathHelper utility class
@@ -34,4 +44,93 @@ public final class ClasspathHelperTest {
                                  urls2,
                                  resultUrls2.toArray());
     }
+
+    @Test
+    public void testDistinctUrlsAreCanonical() throws MalformedURLException {
+        URL[] urls = {new URL("file:/foo/bar/"),
+                      new URL("FILE:///foo/./bar/"),
+                      new URL("file:/foo/baz/../bar/"),
+                      new URL("http://Example.com/foo/"),
+                      new URL("http://example.com/foo/"),
+                      new URL("file:/foo/baz/")};
+
+        Collection<URL> resultUrls = ClasspathHelper.forClassLoader(new URLClassLoader(urls, null));
+        Assert.assertArrayEquals(new URL[]{urls[0], urls[3], urls[5]}, resultUrls.toArray());
+    }
+
+    @Test
+    public void testForResourceIsCachedPerClassLoader() throws MalformedURLException {
+        AtomicInteger lookups = new AtomicInteger();
+        URL           root    = new URL("file:/foo/");
+        ClassLoader classLoader = new ClassLoader(null) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                lookups.incrementAndGet();
+                return Collections.enumeration(Collections.singletonList(new URL(root, name)));
+            }
+        };
+
+        //not cached by default
+        Assert.assertFalse(ClasspathHelper.isCacheEnabled());
+        ClasspathHelper.forPackage("org.reflections", classLoader);
+        ClasspathHelper.forPackage("org.reflections", classLoader);
+        Assert.assertEquals(2, lookups.get());
+
+        try {
+            ClasspathHelper.setCacheEnabled(true);
+            Collection<URL> urls = ClasspathHelper.forPackage("org.reflections", classLoader);
+            Assert.assertEquals(new ArrayList<>(urls), new ArrayList<>(ClasspathHelper.forResource("org/reflections", classLoader)));
+            Assert.assertEquals(Collections.singletonList(root), new ArrayList<>(urls));
+            Assert.assertEquals(3, lookups.get());
+
+            ClasspathHelper.forPackage("org.reflections.util", classLoader);
+            Assert.assertEquals(4, lookups.get());
+
+            ClasspathHelper.clearCache();
+            ClasspathHelper.forPackage("org.reflections", classLoader);
+            Assert.assertEquals(5, lookups.get());
+        } finally {
+            ClasspathHelper.setCacheEnabled(false);
+        }
+        ClasspathHelper.forPackage("org.reflections", classLoader);
+        Assert.assertEquals(6, lookups.get());
+    }
+
+    @Test
+    public void testForManifest() throws IOException {
+        File dir        = Files.createTempDirectory("reflections").toFile();
+        File dependency = new File(dir, "dependency.jar");
+        File other      = new File(dir, "other.jar");
+        File jar        = new File(dir, "main.jar");
+        writeJar(dependency, null);
+        writeJar(other, null);
+        writeJar(jar, "dependency.jar missing.jar");
+
+        List<URL> urls = Arrays.asList(jar.toURI().toURL(), other.toURI().toURL(), dependency.toURI().toURL());
+        Assert.assertEquals(Arrays.asList(jar.toURI().toURL(), dependency.toURI().toURL(), other.toURI().toURL()),
+                            new ArrayList<>(ClasspathHelper.forManifest(urls)));
+        Assert.assertEquals(Arrays.asList(jar.toURI().toURL(), dependency.toURI().toURL()),
+                            new ArrayList<>(ClasspathHelper.forManifest(jar.toURI().toURL())));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Assert.assertEquals(Arrays.asList(jar.toURI().toURL(), dependency.toURI().toURL(), other.toURI().toURL()),
+                                new ArrayList<>(ClasspathHelper.forManifest(urls, executorService)));
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (File file : new File[]{jar, other, dependency, dir}) {
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    private static void writeJar(File file, String classPath) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (classPath != null) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        }
+        new JarOutputStream(new FileOutputStream(file), manifest).close();
+    }
 }
@@ -0,0 +1,136 @@
+package org.reflections;
+
+import org.junit.Test;
+import org.reflections.Invokers.FieldAccessor;
+import org.reflections.Invokers.MethodInvoker;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/** */
+public class InvokersTest {
+
+    @SuppressWarnings("unused")
+    private static class Target {
+        private static int count;
+        private static final String constant = "constant";
+        private String value = "value";
+
+        private String get() { return value; }
+        private void set(String value) { this.value = value; }
+        private int add(int a, int b) { return a + b; }
+        private String concat(String a, String b, String c) { return a + b + c; }
+        private static int count() { return count; }
+        private static void increment() { count++; }
+        private static int twice(int i) { return 2 * i; }
+        private static void add(int i) { count += i; }
+        private void fail() throws IOException { throw new IOException("checked"); }
+        private void failUnchecked() { throw new IllegalStateException("unchecked"); }
+    }
+
+    @Test
+    public void testMethodInvokers() throws Exception {
+        Target target = new Target();
+        assertEquals("value", invoker("get").invoke(target));
+        assertNull(invoker("set", String.class).invoke(target, "other"));
+        assertEquals("other", target.value);
+        assertEquals(3, invoker("add", int.class, int.class).invoke(target, 1, 2));
+        assertEquals("abc", invoker("concat", String.class, String.class, String.class).invoke(target, "a", "b", "c"));
+
+        Target.count = 0;
+        invoker("increment").invoke(null);
+        invoker("add", int.class).invoke(null, 2);
+        assertEquals(3, invoker("count").invoke(null));
+        assertEquals(4, invoker("twice", int.class).invoke(null, 2));
+    }
+
+    @Test
+    public void testInvokerExceptions() throws Exception {
+        try {
+            invoker("fail").invoke(new Target());
+            fail();
+        } catch (ReflectionsException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        try {
+            invoker("failUnchecked").invoke(new Target());
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("unchecked", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCachedInvokers() throws Exception {
+        Method get = Target.class.getDeclaredMethod("get");
+        assertSame(Invokers.invoker(get), Invokers.invoker(Target.class.getDeclaredMethod("get")));
+
+        List<MethodInvoker> invokers = Invokers.invokers(Arrays.asList(get, String.class.getMethod("length")));
+        assertEquals(2, invokers.size());
+        assertEquals(get, invokers.get(0).getMethod());
+        assertEquals(5, invokers.get(1).invoke("value"));
+        //the shared method was not made accessible
+        try {
+            MethodHandles.publicLookup().unreflect(get);
+            fail();
+        } catch (IllegalAccessException e) {
+            //expected
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCacheDoesNotPinClassLoader() throws Exception {
+        //invokers of jdk classes are not cached on them, which would keep this library's class loader from being unloaded
+        Method length = String.class.getMethod("length");
+        assertSame(Invokers.invoker(length), Invokers.invoker(length));
+        Field cache = Invokers.class.getDeclaredField("cache");
+        cache.setAccessible(true);
+        assertFalse(((ClassValue<Map<Member, Object>>) cache.get(null)).get(String.class).containsKey(length));
+
+        //invokers of classes of unrelated class loaders are not cached
+        URL location = Target.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{location}, null)) {
+            Method get = loader.loadClass(Target.class.getName()).getDeclaredMethod("get");
+            assertNotSame(Invokers.invoker(get), Invokers.invoker(get));
+        }
+    }
+
+    @Test
+    public void testFieldAccessors() throws Exception {
+        Target        target = new Target();
+        FieldAccessor value  = Invokers.accessor(Target.class.getDeclaredField("value"));
+        assertEquals("value", value.get(target));
+        value.set(target, "other");
+        assertEquals("other", target.value);
+
+        FieldAccessor count = Invokers.accessor(Target.class.getDeclaredField("count"));
+        count.set(null, 5);
+        assertEquals(5, count.get(null));
+
+        Field         constantField = Target.class.getDeclaredField("constant");
+        FieldAccessor constant      = Invokers.accessors(Arrays.asList(constantField)).get(0);
+        assertEquals("constant", constant.get(null));
+        assertSame(constant, Invokers.accessor(constantField));
+        try {
+            constant.set(null, "other");
+            fail();
+        } catch (ReflectionsException e) {
+            //expected
+        }
+    }
+
+    private static MethodInvoker invoker(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Invokers.invoker(Target.class.getDeclaredMethod(name, parameterTypes));
+    }
+}
@@ -0,0 +1,65 @@
+package org.reflections;
+
+import com.google.common.io.Files;
+import org.junit.Test;
+import org.reflections.serializers.JsonSerializer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+import static org.reflections.XmlSerializerTest.*;
+
+/** */
+public class JsonSerializerTest {
+
+    private final JsonSerializer serializer = new JsonSerializer();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Reflections reflections = reflections();
+        assertStoreEquals(reflections.getStore(), read(serializer, serializer.toString(reflections)).getStore());
+
+        File file = serializer.save(reflections, ReflectionsTest.getUserDir() + "/target/serializers/reflections.json");
+        try (InputStream inputStream = new FileInputStream(file)) {
+            assertStoreEquals(reflections.getStore(), serializer.read(inputStream).getStore());
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Reflections empty = read(serializer, serializer.toString(new Reflections()));
+        assertTrue(empty.getStore().keySet().isEmpty());
+
+        Reflections emptyIndex = new Reflections();
+        emptyIndex.getStore().getOrCreate("SubTypesScanner");
+        assertTrue(read(serializer, serializer.toString(emptyIndex)).getStore().keySet().isEmpty());
+    }
+
+    @Test
+    public void testSpecialCharacters() {
+        Reflections reflections = new Reflections();
+        reflections.getStore().getOrCreate("Special").put(SPECIAL_KEY, SPECIAL_VALUE);
+        String json = serializer.toString(reflections);
+        assertTrue(json.contains("\"a<b>&c\\\"d'e\\\\f\""));
+
+        Reflections read = read(serializer, json);
+        assertEquals(SPECIAL_VALUE, read.getStore().get("Special").get(SPECIAL_KEY).iterator().next());
+    }
+
+    @Test
+    public void testUnknownPropertiesAreSkipped() {
+        Reflections read = read(serializer, "{\"version\":1,\"store\":{\"sources\":[],\"storeMap\":{\"SubTypesScanner\":{\"a\":[\"b\"]}}}}");
+        assertEquals("b", read.getStore().get("SubTypesScanner").get("a").iterator().next());
+    }
+
+    @Test
+    public void testGolden() throws IOException {
+        String golden = Files.asCharSource(new File(ReflectionsTest.getUserDir(), "src/test/golden/golden.json"), StandardCharsets.UTF_8).read();
+        assertEquals(golden, serializer.toString(reflections()));
+        assertStoreEquals(reflections().getStore(), read(serializer, golden).getStore());
+    }
+}
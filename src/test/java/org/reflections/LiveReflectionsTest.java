@@ -0,0 +1,64 @@
+package org.reflections;
+
+import com.google.common.io.Files;
+import org.junit.Test;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.reflections.TestModel.*;
+
+/** */
+public class LiveReflectionsTest {
+
+    @Test
+    public void testLiveChanges() throws Exception {
+        File classes = Files.createTempDir();
+        copy(classes, C1.class);
+        copy(classes, C2.class);
+
+        LiveReflections live = new LiveReflections(new ConfigurationBuilder().setUrls(classes.toURI().toURL())
+                                                                             .setScanners(new SubTypesScanner())
+                                                                             .setExpandSuperTypes(false)
+                                                                             .setTrackSources(true), 50);
+        try {
+            Reflections initial = live.getReflections();
+            assertEquals(1, initial.getSubTypesOf(C1.class).size());
+
+            copy(classes, C3.class);
+            assertTrue(await(live, 2));
+            assertEquals("snapshots are not modified", 1, initial.getSubTypesOf(C1.class).size());
+
+            assertTrue(new File(classes, path(C3.class)).delete());
+            assertTrue(await(live, 1));
+        } finally {
+            live.close();
+        }
+    }
+
+    private static boolean await(LiveReflections live, int subTypes) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Set<Class<? extends C1>> result = live.getReflections().getSubTypesOf(C1.class);
+            if (result.size() == subTypes) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private static void copy(File dir, Class<?> type) throws IOException {
+        File target = new File(dir, path(type));
+        Files.createParentDirs(target);
+        Files.write(Files.toByteArray(new File(ClasspathHelper.forClass(type).getFile(), path(type))), target);
+    }
+
+    private static String path(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+}
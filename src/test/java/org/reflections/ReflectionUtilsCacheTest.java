@@ -0,0 +1,132 @@
+package org.reflections;
+
+import org.junit.After;
+import org.junit.Test;
+import org.reflections.TestModel.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionUtils.*;
+
+/** */
+@SuppressWarnings("unchecked")
+public class ReflectionUtilsCacheTest {
+
+    @After
+    public void disableCache() {
+        setCacheEnabled(false);
+    }
+
+    @Test
+    public void testCachedEqualsUncached() {
+        Class<?>[] types = {C1.class, C3.class, C4.class, C5.class, I2.class, Object.class, ReflectionUtilsCacheTest.class};
+        for (Class<?> type : types) {
+            setCacheEnabled(false);
+            Set<Class<?>> superTypes    = getAllSuperTypes(type);
+            Set<Method>   methods       = getAllMethods(type);
+            Set<Method>   publicMethods = getAllMethods(type, withModifier(Modifier.PUBLIC), withPrefix("m"));
+            Set<?>        constructors  = getAllConstructors(type);
+            Set<?>        fields        = getAllFields(type, withAnnotation(AF1.class));
+            Set<?>        annotations   = getAllAnnotations(type);
+
+            setCacheEnabled(true);
+            for (int i = 0; i < 2; i++) {
+                assertEquals(superTypes, getAllSuperTypes(type));
+                assertEquals(methods, getAllMethods(type));
+                assertEquals(publicMethods, getAllMethods(type, withModifier(Modifier.PUBLIC), withPrefix("m")));
+                assertEquals(constructors, getAllConstructors(type));
+                assertEquals(fields, getAllFields(type, withAnnotation(AF1.class)));
+                assertEquals(annotations, getAllAnnotations(type));
+            }
+        }
+    }
+
+    @Test
+    public void testCachedResultsAreCopies() {
+        setCacheEnabled(true);
+        assertTrue(isCacheEnabled());
+        Set<Method> methods = getAllMethods(C4.class);
+        int         size    = methods.size();
+        methods.clear();
+        assertEquals(size, getAllMethods(C4.class).size());
+    }
+
+    @Test
+    public void testCachedPredicates() {
+        AM1 am1 = new AM1() {
+            @Override
+            public String value() {return "2";}
+
+            @Override
+            public Class<? extends java.lang.annotation.Annotation> annotationType() {return AM1.class;}
+        };
+        for (boolean cache : new boolean[]{false, true, true}) {
+            setCacheEnabled(cache);
+            assertEquals(getAllMethods(C4.class, withPattern("public.*.void .*")),
+                         getAllMethods(C4.class, withModifier(Modifier.PUBLIC), withReturnType(void.class)));
+            assertEquals(1, getAllMethods(C4.class, withAnyParameterAnnotation(am1)).size());
+            assertEquals(1, getAllMethods(C4.class, withAnyParameterAnnotation(AM1.class)).size());
+            assertEquals(getAllMethods(C4.class, withParametersAssignableTo(String.class)),
+                         getAllMethods(C4.class, withParameters(String.class), withParametersCount(1)));
+        }
+    }
+
+    @Test
+    public void testCheapPredicatesFirst() {
+        AtomicInteger evaluated = new AtomicInteger();
+        Set<Method> methods = getAllMethods(C4.class, input -> evaluated.incrementAndGet() > 0, withName("m4"));
+        assertEquals(1, methods.size());
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test
+    public void testJdkClassesCacheJdkTypesOnly() throws Exception {
+        setCacheEnabled(true);
+        getAllSuperTypes(String.class);
+        getAllConstructors(String.class);
+        getAllFields(String.class);
+        getAllAnnotations(String.class);
+        getAllMethods(String.class, withParametersCount(1), withAnyParameterAnnotation(AM1.class), withPattern(".*"));
+
+        for (String name : new String[]{"typeCache", "memberCaches"}) {
+            Field field = ReflectionUtils.class.getDeclaredField(name);
+            field.setAccessible(true);
+            Object value = ((ClassValue<?>) field.get(null)).get(String.class);
+            assertJdkTypes(value);
+        }
+    }
+
+    //the cached values of a jdk class must not reference a class of this library, which would pin its class loader
+    private static void assertJdkTypes(Object value) {
+        if (value == null) {
+            return;
+        }
+        assertNull(value.getClass().getName(), value.getClass().getClassLoader());
+        if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                assertJdkTypes(element);
+            }
+        } else if (value instanceof AtomicReferenceArray) {
+            for (int i = 0; i < ((AtomicReferenceArray<?>) value).length(); i++) {
+                assertJdkTypes(((AtomicReferenceArray<?>) value).get(i));
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                assertJdkTypes(entry.getKey());
+                assertJdkTypes(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                assertJdkTypes(element);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.reflections;
 
 import com.google.common.base.Function;
+import com.google.common.base.Predicate;
 import com.google.common.collect.Sets;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
@@ -115,6 +116,37 @@ public class ReflectionUtilsTest {
         assertFalse(returnsAssignableToMember.containsAll(returnMember));
     }
 
+    @Test
+    public void callerPredicatesAreEvaluatedLast() {
+        List<String>      evaluated = new ArrayList<>();
+        Predicate<Method> first     = input -> evaluated.add("first " + input.getName());
+        Predicate<Method> second    = input -> evaluated.add("second " + input.getName());
+
+        assertTrue(getAllMethods(C4.class, first, withPattern(".*nothing"), second, withName("m1")).isEmpty());
+        assertTrue(evaluated.isEmpty());
+
+        Set<Method> methods = getAllMethods(C4.class, second, withPattern(".*C4.m1.*"), first, withName("m1"));
+        assertFalse(methods.isEmpty());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            expected.addAll(Arrays.asList("second m1", "first m1"));
+        }
+        assertEquals(expected, evaluated);
+    }
+
+    @Test
+    public void getAllEvaluatesCallerPredicatesLast() {
+        List<String>      evaluated = new ArrayList<>();
+        Predicate<Method> caller    = input -> evaluated.add(input.getName());
+        Set<Method>       methods   = Sets.newHashSet(C4.class.getDeclaredMethods());
+
+        assertTrue(getAll(methods, caller, withName("nothing")).isEmpty());
+        assertTrue(evaluated.isEmpty());
+
+        assertFalse(getAll(methods, caller, withName("m1")).isEmpty());
+        assertTrue(!evaluated.isEmpty() && evaluated.stream().allMatch("m1"::equals));
+    }
+
     @Test
     public void getAllAndReflections() {
         Reflections reflections = new Reflections(TestModel.class, new FieldAnnotationsScanner());
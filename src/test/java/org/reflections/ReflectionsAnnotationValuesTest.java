@@ -0,0 +1,151 @@
+package org.reflections;
+
+import com.google.common.collect.Iterables;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.AnnotationValues;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsAnnotationValuesTest {
+
+    static Reflections indexed;
+    static Reflections unindexed;
+
+    @BeforeClass
+    public static void init() {
+        indexed = reflections(new AnnotationValuesScanner());
+        unindexed = reflections();
+    }
+
+    private static Reflections reflections(Scanner... scanners) {
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forClass(ReflectionsAnnotationValuesTest.class))
+                .filterInputsBy(new FilterBuilder().include("org.reflections.ReflectionsAnnotationValuesTest\\$.*"))
+                .setScanners(new SubTypesScanner(false),
+                             new TypeAnnotationsScanner(),
+                             new MethodAnnotationsScanner(),
+                             new FieldAnnotationsScanner());
+        configuration.addScanners(scanners);
+        return new Reflections(configuration);
+    }
+
+    @Test
+    public void testIndex() {
+        assertTrue(Iterables.contains(indexed.getStore().get(index(AnnotationValuesScanner.class),
+                                                             AnnotationValues.key(Route.class.getName(), "value", "/b")),
+                                      B.class.getName()));
+        assertTrue(Iterables.contains(indexed.getStore().get(index(AnnotationValuesScanner.class),
+                                                             AnnotationValues.key(Route.class.getName(),
+                                                                                  "ports",
+                                                                                  "[80,443]")),
+                                      D.class.getName()));
+        assertTrue(Iterables.contains(indexed.getStore().get(index(AnnotationValuesScanner.class),
+                                                             AnnotationValues.key(Route.class.getName(),
+                                                                                  "type",
+                                                                                  "java.lang.String[]")),
+                                      D.class.getName()));
+        assertFalse(Iterables.contains(indexed.getStore().get(index(AnnotationValuesScanner.class),
+                                                              AnnotationValues.key(Route.class.getName(), "method")),
+                                       A.class.getName()));
+    }
+
+    @Test
+    public void testTypesAnnotatedWith() {
+        Route a = A.class.getAnnotation(Route.class);
+        assertEquals(new HashSet<>(Arrays.asList(A.class, C.class)), indexed.getTypesAnnotatedWith(a));
+        assertEquals(unindexed.getTypesAnnotatedWith(a), indexed.getTypesAnnotatedWith(a));
+        assertEquals(unindexed.getTypesAnnotatedWith(a, true), indexed.getTypesAnnotatedWith(a, true));
+
+        Route b = B.class.getAnnotation(Route.class);
+        assertEquals(Collections.singleton(B.class), indexed.getTypesAnnotatedWith(b));
+        assertEquals(unindexed.getTypesAnnotatedWith(b), indexed.getTypesAnnotatedWith(b));
+
+        Route d = D.class.getAnnotation(Route.class);
+        assertEquals(Collections.singleton(D.class), indexed.getTypesAnnotatedWith(d));
+        assertEquals(unindexed.getTypesAnnotatedWith(d), indexed.getTypesAnnotatedWith(d));
+    }
+
+    @Test
+    public void testMembersAnnotatedWith() throws NoSuchMethodException, NoSuchFieldException {
+        Route m = E.class.getDeclaredMethod("m").getAnnotation(Route.class);
+        assertEquals(Collections.singleton(E.class.getDeclaredMethod("m")), indexed.getMethodsAnnotatedWith(m));
+        assertEquals(unindexed.getMethodsAnnotatedWith(m), indexed.getMethodsAnnotatedWith(m));
+
+        Route constructor = E.class.getDeclaredConstructor().getAnnotation(Route.class);
+        assertEquals(Collections.singleton(E.class.getDeclaredConstructor()),
+                     indexed.getConstructorsAnnotatedWith(constructor));
+        assertEquals(unindexed.getConstructorsAnnotatedWith(constructor),
+                     indexed.getConstructorsAnnotatedWith(constructor));
+
+        Route f = E.class.getDeclaredField("f").getAnnotation(Route.class);
+        assertEquals(Collections.singleton(E.class.getDeclaredField("f")), indexed.getFieldsAnnotatedWith(f));
+        assertEquals(unindexed.getFieldsAnnotatedWith(f), indexed.getFieldsAnnotatedWith(f));
+    }
+
+    @Test
+    public void testNonMatchingMembersAreNotResolved() throws NoSuchMethodException {
+        Reflections reflections = reflections(new AnnotationValuesScanner());
+        String      unloadable  = "org.reflections.unloadable.Type.m()";
+        reflections.getStore().getOrCreate(index(MethodAnnotationsScanner.class)).put(Route.class.getName(), unloadable);
+        reflections.getStore().getOrCreate(index(AnnotationValuesScanner.class)).put(Route.class.getName(), unloadable);
+        reflections.getStore()
+                   .getOrCreate(index(AnnotationValuesScanner.class))
+                   .put(AnnotationValues.key(Route.class.getName(), "value", "/x"), unloadable);
+
+        Route m = E.class.getDeclaredMethod("m").getAnnotation(Route.class);
+        assertEquals(Collections.singleton(E.class.getDeclaredMethod("m")), reflections.getMethodsAnnotatedWith(m));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Route {
+        String value();
+
+        String method() default "GET";
+
+        int[] ports() default {};
+
+        Class<?> type() default Object.class;
+
+        ElementType target() default ElementType.TYPE;
+    }
+
+    @Route("/a")
+    public static class A {}
+
+    @Route(value = "/b", method = "POST")
+    public static class B {}
+
+    @Route(value = "/a", method = "GET")
+    public static class C {}
+
+    @Route(value = "/a", ports = {80, 443}, type = String[].class, target = ElementType.METHOD)
+    public static class D {}
+
+    public static class E {
+        @Route("/f") public String f;
+        @Route("/g") public String g;
+
+        @Route("/e")
+        public E() {}
+
+        @Route("/m")
+        public void m() {}
+
+        @Route(value = "/m", method = "PUT")
+        public void n() {}
+    }
+}
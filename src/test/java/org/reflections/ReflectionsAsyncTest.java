@@ -0,0 +1,101 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/** */
+public class ReflectionsAsyncTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = Reflections.scanAsync(new ConfigurationBuilder().setUrls(Collections.singletonList(ClasspathHelper.forClass(
+                TestModel.class)))
+                                                                      .filterInputsBy(TestModelFilter)
+                                                                      .setScanners(new SubTypesScanner(false),
+                                                                                   new TypeAnnotationsScanner(),
+                                                                                   new FieldAnnotationsScanner(),
+                                                                                   new MethodAnnotationsScanner(),
+                                                                                   new MethodParameterScanner(),
+                                                                                   new MethodParameterNamesScanner(),
+                                                                                   new MemberUsageScanner())
+                                                                      .useParallelExecutor()).join();
+    }
+
+    @Test
+    public void testScanFailuresAreReturned() {
+        Scanner failing = new AbstractScanner() {
+            @Override
+            public void scan(Object cls) {
+                throw new IllegalStateException("failing scanner");
+            }
+        };
+        CompletableFuture<Reflections> future = Reflections.scanAsync(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                                               .filterInputsBy(TestModelFilter)
+                                                                                               .setScanners(failing,
+                                                                                                            new SubTypesScanner(false)));
+        try {
+            future.join();
+            fail("expected the future to complete exceptionally");
+        } catch (CompletionException e) {
+            assertTrue(future.isCompletedExceptionally());
+            assertTrue(e.getCause() instanceof ReflectionsScanException);
+            ReflectionsScanException scanException = (ReflectionsScanException) e.getCause();
+
+            //the failures are suppressed, and the partial instance holds everything else that was scanned
+            assertTrue(scanException.getSuppressed().length > 0);
+            for (Throwable failure : scanException.getSuppressed()) {
+                assertTrue(failure instanceof ReflectionsException);
+                assertTrue(failure.getCause() instanceof IllegalStateException);
+            }
+            Reflections scanned = scanException.getReflections();
+            assertEquals(scanException.getSuppressed().length, scanned.getScanFailures().size());
+            assertFalse(scanned.getSubTypesOf(TestModel.C1.class).isEmpty());
+        }
+        assertTrue(new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                             .filterInputsBy(TestModelFilter)
+                                                             .setScanners(failing)).getScanFailures().isEmpty());
+    }
+
+    @Test
+    public void testScanOnSingleThreadExecutor() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Reflections scanned = Reflections.scanAsync(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class),
+                                                                                           ClasspathHelper.forClass(Test.class))
+                                                                                  .filterInputsBy(TestModelFilter)
+                                                                                  .setScanners(new SubTypesScanner(false))
+                                                                                  .setScanListener(new ScanListener() {
+                                                                                      @Override
+                                                                                      public void urlStarted(URL url) {
+                                                                                          threads.add(Thread.currentThread());
+                                                                                      }
+                                                                                  })
+                                                                                  .setExecutorService(executorService))
+                                             .get(30, TimeUnit.SECONDS);
+            assertFalse(scanned.getSubTypesOf(TestModel.C1.class).isEmpty());
+            assertEquals(1, threads.size());
+            assertFalse(threads.contains(Thread.currentThread()));
+            assertFalse(executorService.isShutdown());
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
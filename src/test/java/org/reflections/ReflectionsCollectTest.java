@@ -9,8 +9,11 @@ import org.reflections.util.*;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.reflections.util.Utils.index;
 
@@ -61,4 +64,26 @@ public class ReflectionsCollectTest extends ReflectionsTest {
                        "testModel-reflections.xml",
                        "testModel-reflections.json"));
     }
+
+    @Test
+    public void testParallelCollect() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Reflections parallel = Reflections.collectParallel("META-INF/reflections/",
+                                                               new FilterBuilder().include(".*-reflections.xml"),
+                                                               executorService);
+            Reflections sequential = Reflections.collect();
+            Reflections defaultSerializer = Reflections.collect("META-INF/reflections/",
+                                                                new FilterBuilder().include(".*-reflections.xml"),
+                                                                null);
+            assertEquals(sequential.getStore().keySet(), defaultSerializer.getStore().keySet());
+
+            assertEquals(sequential.getStore().keySet(), parallel.getStore().keySet());
+            for (String index : sequential.getStore().keySet()) {
+                assertEquals(sequential.getStore().get(index), parallel.getStore().get(index));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -1,13 +1,26 @@
 package org.reflections;
 
+import com.google.common.collect.Iterables;
 import junit.framework.Assert;
 import org.junit.Test;
 import org.reflections.ReflectionsExpandSupertypesTest.TestModel.A;
 import org.reflections.ReflectionsExpandSupertypesTest.TestModel.B;
 import org.reflections.ReflectionsExpandSupertypesTest.TestModel.ScannedScope.C;
+import org.reflections.scanners.SubTypesScanner;
 import org.reflections.util.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.reflections.util.Utils.index;
 
 public class ReflectionsExpandSupertypesTest {
 
@@ -52,4 +65,117 @@ public class ReflectionsExpandSupertypesTest {
         Set<Class<? extends A>> subTypesOf1 = refDontExpand.getSubTypesOf(A.class);
         Assert.assertFalse(subTypesOf1.contains(B.class));
     }
+
+    @Test
+    public void testExpandSupertypesFromClassFiles() {
+        Reflections refExpand = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(C.class))
+                                                                          .filterInputsBy(inputsFilter)
+                                                                          .setExpandSuperTypesFromClassFiles(true));
+        Set<Class<? extends A>> subTypesOf = refExpand.getSubTypesOf(A.class);
+        Assert.assertTrue("expanded", subTypesOf.contains(B.class));
+        Assert.assertTrue("transitivity", subTypesOf.containsAll(refExpand.getSubTypesOf(B.class)));
+
+        Reflections refLoaded = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(C.class))
+                                                                          .filterInputsBy(inputsFilter));
+        Assert.assertEquals(refLoaded.getStore().get(index(SubTypesScanner.class)),
+                            refExpand.getStore().get(index(SubTypesScanner.class)));
+    }
+
+    @Test
+    public void testExpandSupertypesFromClassFilesDoesNotLoadClasses() {
+        ClassLoader resourcesOnly = new ClassLoader(null) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                throw new ClassNotFoundException(name);
+            }
+
+            @Override
+            public URL getResource(String name) {
+                return ReflectionsExpandSupertypesTest.class.getClassLoader().getResource(name);
+            }
+        };
+
+        Reflections refExpand = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(C.class))
+                                                                          .filterInputsBy(inputsFilter)
+                                                                          .addClassLoader(resourcesOnly)
+                                                                          .setExpandSuperTypesFromClassFiles(true));
+        Assert.assertTrue(Iterables.contains(refExpand.getStore().getAll(index(SubTypesScanner.class),
+                                                                         A.class.getName()),
+                                             C.class.getName()));
+
+        Reflections refDontExpand = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(C.class))
+                                                                              .filterInputsBy(inputsFilter)
+                                                                              .addClassLoader(resourcesOnly));
+        Assert.assertFalse(Iterables.contains(refDontExpand.getStore().getAll(index(SubTypesScanner.class),
+                                                                              A.class.getName()),
+                                              C.class.getName()));
+    }
+
+    @Test
+    public void testExpandSupertypesFromClassFilesThreads() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            //read on the calling thread, unless the configuration has an executor service
+            Assert.assertEquals(Collections.singleton(Thread.currentThread()), expandingThreads(null));
+            Set<Thread> threads = expandingThreads(executorService);
+            Assert.assertFalse(threads.isEmpty());
+            Assert.assertFalse(threads.contains(Thread.currentThread()));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private Set<Thread> expandingThreads(ExecutorService executorService) {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ClassLoader recording = new ClassLoader(null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                threads.add(Thread.currentThread());
+                return ReflectionsExpandSupertypesTest.class.getClassLoader().getResourceAsStream(name);
+            }
+        };
+        new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(C.class))
+                                                  .filterInputsBy(inputsFilter)
+                                                  .addClassLoader(recording)
+                                                  .setExecutorService(executorService)
+                                                  .setExpandSuperTypesFromClassFiles(true));
+        return threads;
+    }
+
+    @Test
+    public void testClassFileSuperTypesCachesOnlyMissingClassFiles() {
+        AtomicInteger lookups  = new AtomicInteger();
+        AtomicBoolean failRead = new AtomicBoolean(true);
+        ClassLoader classLoader = new ClassLoader(null) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                lookups.incrementAndGet();
+                if (failRead.get()) {
+                    return new InputStream() {
+                        @Override
+                        public int read() throws IOException {
+                            throw new IOException("transient failure");
+                        }
+                    };
+                }
+                return ReflectionsExpandSupertypesTest.class.getClassLoader().getResourceAsStream(name);
+            }
+        };
+
+        //a class file which could not be read is read again
+        Assert.assertNull(ClassFileSuperTypes.getSuperTypes(B.class.getName(), classLoader));
+        failRead.set(false);
+        Assert.assertEquals(Collections.singletonList(A.class.getName()),
+                            ClassFileSuperTypes.getSuperTypes(B.class.getName(), classLoader));
+        Assert.assertEquals(2, lookups.get());
+
+        //a missing class file is not looked up again
+        Assert.assertNull(ClassFileSuperTypes.getSuperTypes("org.reflections.Missing", classLoader));
+        Assert.assertNull(ClassFileSuperTypes.getSuperTypes("org.reflections.Missing", classLoader));
+        Assert.assertEquals(3, lookups.get());
+
+        //java.lang.Object is excluded when returned, as ReflectionUtils.includeObject is false
+        Assert.assertEquals(Collections.emptyList(),
+                            ClassFileSuperTypes.getSuperTypes(ReflectionsExpandSupertypesTest.class.getName(), classLoader));
+    }
 }
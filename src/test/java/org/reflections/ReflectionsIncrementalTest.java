@@ -0,0 +1,160 @@
+package org.reflections;
+
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.util.UrlScanCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/** */
+public class ReflectionsIncrementalTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        File dir = clean(new File(getUserDir(), "target/incremental-scan"));
+
+        //first scan saves each url's scan result, second scan merges it back
+        for (int i = 0; i < 2; i++) {
+            reflections = new Reflections(new ConfigurationBuilder().setUrls(Collections.singletonList(ClasspathHelper.forClass(
+                    TestModel.class)))
+                                                                    .filterInputsBy(TestModelFilter)
+                                                                    .setScanners(new SubTypesScanner(false),
+                                                                                 new TypeAnnotationsScanner(),
+                                                                                 new FieldAnnotationsScanner(),
+                                                                                 new MethodAnnotationsScanner(),
+                                                                                 new MethodParameterScanner(),
+                                                                                 new MethodParameterNamesScanner(),
+                                                                                 new MemberUsageScanner())
+                                                                    .setIncrementalScanDir(dir));
+        }
+        assertTrue(new File(dir, "fingerprints.properties").exists());
+    }
+
+    @Test
+    public void testSharedScanCache() {
+        File dir = clean(new File(getUserDir(), "target/scan-cache"));
+
+        Reflections scanned = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class))
+                                                                        .setScanCacheDir(dir));
+        File[] cached = dir.listFiles((d, name) -> name.endsWith(".xml"));
+        assertTrue((cached != null) && (cached.length == 1));
+
+        File[] locks = dir.listFiles((d, name) -> name.endsWith(".lock"));
+        assertTrue((locks != null) && (locks.length == 0));
+
+        Reflections reused = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class))
+                                                                       .setScanCacheDir(dir));
+        for (String index : scanned.getStore().keySet()) {
+            assertEquals(scanned.getStore().get(index), reused.getStore().get(index));
+        }
+    }
+
+    @Test
+    public void testSharedScanCacheHashesUnchangedJarOnce() throws IOException {
+        File dir = clean(new File(getUserDir(), "target/scan-cache-hashes"));
+
+        new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class)).setScanCacheDir(dir));
+        File[] hashes = dir.listFiles((d, name) -> name.endsWith(".hash"));
+        assertTrue((hashes != null) && (hashes.length == 1));
+
+        //the saved hash of the unchanged jar is used rather than its contents, so the scan is cached under the saved hash
+        String saved = Strings.repeat("0", 64);
+        Files.asCharSink(hashes[0], StandardCharsets.UTF_8).write(saved);
+        new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class)).setScanCacheDir(dir));
+        File[] cached = dir.listFiles((d, name) -> name.startsWith(saved) && name.endsWith(".xml"));
+        assertTrue((cached != null) && (cached.length == 1));
+    }
+
+    @Test
+    public void testSharedScanCacheWriteFailure() throws IOException {
+        File dir = clean(new File(getUserDir(), "target/scan-cache-blocked"));
+
+        Reflections scanned = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class))
+                                                                        .setScanCacheDir(dir));
+        File[] cached = dir.listFiles((d, name) -> name.endsWith(".xml"));
+        assertTrue((cached != null) && (cached.length == 1));
+
+        //a non empty directory where the cached scan should be moved to
+        assertTrue(cached[0].delete() && cached[0].mkdir() && new File(cached[0], "blocked").createNewFile());
+        try {
+            Reflections rescanned = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class))
+                                                                              .setScanCacheDir(dir));
+            for (String index : scanned.getStore().keySet()) {
+                assertEquals(scanned.getStore().get(index), rescanned.getStore().get(index));
+            }
+            File[] temp = dir.listFiles((d, name) -> name.endsWith(".tmp"));
+            assertTrue((temp != null) && (temp.length == 0));
+        } finally {
+            clean(cached[0]);
+            assertTrue(cached[0].delete());
+        }
+    }
+
+    @Test
+    public void testSharedScanCacheNotUsedWithoutSignature() {
+        File dir = clean(new File(getUserDir(), "target/scan-cache-unstable"));
+
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(Test.class))
+                                                                            .filterInputsBy(name -> true)
+                                                                            .setScanCacheDir(dir));
+        assertFalse(reflections.getStore().keySet().isEmpty());
+        File[] cached = dir.listFiles((d, name) -> name.endsWith(".xml"));
+        assertTrue((cached == null) || (cached.length == 0));
+    }
+
+    @Test
+    public void testSignature() {
+        String signature = UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner())
+                                                                            .filterInputsBy(TestModelFilter));
+        assertNotNull(signature);
+        assertEquals(signature,
+                     UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner())
+                                                                      .filterInputsBy(new FilterBuilder().include(
+                                                                              "org.reflections.TestModel\\$.*"))));
+        assertNotEquals(signature,
+                        UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner(false))
+                                                                         .filterInputsBy(TestModelFilter)));
+        assertNotEquals(signature,
+                        UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner())
+                                                                         .filterInputsBy(new FilterBuilder())));
+
+        assertNull(UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner())
+                                                                    .filterInputsBy(name -> true)));
+        assertNull(UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner().filterResultsBy(
+                name -> true))));
+        assertNull(UrlScanCache.signature(new ConfigurationBuilder().setScanners(new SubTypesScanner())
+                                                                    .filterInputsBy(new FilterBuilder().add(name -> true))));
+    }
+
+    @Test
+    public void testCacheWriteFailure() throws IOException {
+        File blocked = new File(getUserDir(), "target/incremental-scan-blocked");
+        assertTrue(blocked.exists() || blocked.createNewFile()); //a file where the cache directory should be
+
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                            .filterInputsBy(TestModelFilter)
+                                                                            .setIncrementalScanDir(blocked));
+        assertTrue(reflections.getSubTypesOf(TestModel.I1.class).contains(TestModel.I2.class));
+    }
+
+    private static File clean(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        return dir;
+    }
+}
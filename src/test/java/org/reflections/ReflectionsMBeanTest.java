@@ -0,0 +1,106 @@
+package org.reflections;
+
+import org.junit.Test;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+
+/** */
+public class ReflectionsMBeanTest {
+
+    @Test
+    public void testMBean() throws Exception {
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                            .filterInputsBy(TestModelFilter)
+                                                                            .setScanners(new SubTypesScanner(false))
+                                                                            .setRegisterMBean(true));
+        reflections.getSubTypesOf(C1.class);
+        reflections.getSubTypesOf(I1.class);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName  name   = reflections.getMBeanName();
+        assertNotNull(name);
+        assertTrue(server.isRegistered(name));
+        try {
+            ReflectionsMXBean mbean = JMX.newMXBeanProxy(server, name, ReflectionsMXBean.class);
+
+            assertTrue(mbean.getIndexKeyCounts().get("SubTypesScanner") > 0);
+            assertTrue(mbean.getIndexValueCounts().get("SubTypesScanner") > 0);
+            assertTrue(mbean.getEstimatedBytes() > 0);
+            assertEquals(2L, (long) mbean.getQueryCounts().get("getSubTypesOf"));
+
+            long[] histogram = mbean.getQueryLatencyHistograms().get("getSubTypesOf");
+            assertEquals(mbean.getQueryLatencyBoundsMicros().length + 1, histogram.length);
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            assertEquals(2, total);
+
+            mbean.resetQueryMetrics();
+            assertTrue(mbean.getQueryCounts().isEmpty());
+        } finally {
+            reflections.unregisterMBean();
+        }
+        assertFalse(server.isRegistered(name));
+        assertNull(reflections.getMBeanName());
+        reflections.getSubTypesOf(C1.class);
+    }
+
+    @Test
+    public void testCopyRegistersMBean() {
+        MBeanServer server      = ManagementFactory.getPlatformMBeanServer();
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                            .filterInputsBy(TestModelFilter)
+                                                                            .setScanners(new SubTypesScanner(false))
+                                                                            .setRegisterMBean(true));
+        Reflections copy = new Reflections(reflections);
+        try {
+            assertNotNull(copy.getMBeanName());
+            assertNotEquals(reflections.getMBeanName(), copy.getMBeanName());
+            assertTrue(server.isRegistered(copy.getMBeanName()));
+        } finally {
+            reflections.unregisterMBean();
+            copy.unregisterMBean();
+        }
+        assertNull(new Reflections(copy).getMBeanName());
+    }
+
+    @Test
+    public void testMBeanNamesAreUnique() {
+        MBeanServer       server = ManagementFactory.getPlatformMBeanServer();
+        List<Reflections> all    = new ArrayList<>();
+        Set<ObjectName>   names  = new HashSet<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                                    .filterInputsBy(TestModelFilter)
+                                                                                    .setScanners(new SubTypesScanner(false))
+                                                                                    .setRegisterMBean(true));
+                all.add(reflections);
+                assertTrue(names.add(reflections.getMBeanName()));
+                assertTrue(server.isRegistered(reflections.getMBeanName()));
+            }
+        } finally {
+            for (Reflections reflections : all) {
+                reflections.unregisterMBean();
+            }
+        }
+        for (ObjectName name : names) {
+            assertFalse(server.isRegistered(name));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.Utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsNamesTest {
+
+    static Reflections reflections;
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                .filterInputsBy(TestModelFilter)
+                                                                .setScanners(new SubTypesScanner(false),
+                                                                             new TypeAnnotationsScanner(),
+                                                                             new FieldAnnotationsScanner(),
+                                                                             new MethodAnnotationsScanner(),
+                                                                             new MemberUsageScanner()));
+    }
+
+    @Test
+    public void testNamesMatchResolvedQueries() throws NoSuchFieldException {
+        assertEquals(types(reflections.getSubTypesOf(I1.class)), reflections.getSubTypeNamesOf(I1.class.getName()));
+        assertEquals(types(reflections.getTypesAnnotatedWith(AI1.class)),
+                     reflections.getTypeNamesAnnotatedWith(AI1.class.getName()));
+        assertEquals(types(reflections.getTypesAnnotatedWith(MAI1.class)),
+                     reflections.getTypeNamesAnnotatedWith(MAI1.class.getName()));
+        assertEquals(members(reflections.getMethodsAnnotatedWith(AM1.class)),
+                     reflections.getMethodNamesAnnotatedWith(AM1.class.getName()));
+        assertEquals(members(reflections.getConstructorsAnnotatedWith(AM1.class)),
+                     reflections.getConstructorNamesAnnotatedWith(AM1.class.getName()));
+        assertEquals(members(reflections.getFieldsAnnotatedWith(AF1.class)),
+                     reflections.getFieldNamesAnnotatedWith(AF1.class.getName()));
+
+        Field field = Usage.C1.class.getDeclaredField("c2");
+        assertFalse(reflections.getFieldUsage(field).isEmpty());
+        Set<String> usages = new HashSet<>();
+        for (String usage : reflections.getUsageNames(Utils.name(field))) {
+            usages.add(usage.substring(0, usage.lastIndexOf(" #")));
+        }
+        assertEquals(members(reflections.getFieldUsage(field)), usages);
+    }
+
+    @Test
+    public void testNamesDoNotLoadClasses() {
+        String type = "org.reflections.unloadable.Type";
+        reflections.getStore().getOrCreate(index(SubTypesScanner.class)).put(C1.class.getName(), type);
+        try {
+            assertTrue(reflections.getSubTypeNamesOf(I1.class.getName()).contains(type));
+        } finally {
+            reflections.getStore().get(index(SubTypesScanner.class)).remove(C1.class.getName(), type);
+        }
+    }
+
+    private static Set<String> types(Collection<? extends Class<?>> types) {
+        Set<String> names = new HashSet<>();
+        for (Class<?> type : types) {
+            names.add(type.getName());
+        }
+        return names;
+    }
+
+    private static Set<String> members(Collection<? extends Member> members) {
+        Set<String> names = new HashSet<>();
+        for (Member member : members) {
+            names.add((member instanceof Method)
+                      ? Utils.name((Method) member)
+                      : (member instanceof Constructor)
+                        ? Utils.name((Constructor) member)
+                        : Utils.name((Field) member));
+        }
+        return names;
+    }
+}
@@ -1,11 +1,23 @@
 package org.reflections;
 
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.reflections.scanners.*;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+import static org.reflections.TestModel.*;
 
 /** */
 public class ReflectionsParallelTest extends ReflectionsTest {
@@ -24,4 +36,57 @@ public class ReflectionsParallelTest extends ReflectionsTest {
                                                                              new MemberUsageScanner())
                                                                 .useParallelExecutor());
     }
+
+    @Test
+    public void testExecutorServiceOwnership() throws InterruptedException {
+        ExecutorService shared = Executors.newFixedThreadPool(2);
+        try {
+            ConfigurationBuilder configuration = new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                           .filterInputsBy(TestModelFilter)
+                                                                           .setExecutorService(shared);
+            new Reflections(configuration);
+            assertFalse("caller supplied executor service should not be shut down", shared.isShutdown());
+        } finally {
+            shared.shutdown();
+        }
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ConfigurationBuilder configuration = new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                       .filterInputsBy(TestModelFilter)
+                                                                       .setScanListener(new ScanListener() {
+                                                                           @Override
+                                                                           public void urlStarted(URL url) {
+                                                                               threads.add(Thread.currentThread());
+                                                                           }
+                                                                       })
+                                                                       .useParallelExecutor(2);
+        assertNull("the configuration does not hold an executor service", configuration.getExecutorService());
+        new Reflections(configuration);
+        assertFalse(threads.isEmpty());
+        for (Thread thread : threads) {
+            thread.join(5000);
+            assertFalse("owned executor service should be shut down", thread.isAlive());
+        }
+    }
+
+    @Test
+    public void testConcurrentScansShareConfiguration() throws Exception {
+        ConfigurationBuilder configuration = new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                       .filterInputsBy(TestModelFilter)
+                                                                       .useParallelExecutor(2);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            //each scan creates and shuts down its own executor service, so that scans do not reject each other's urls,
+            //and the scanners shared by the configuration write into the store of the instance scanning
+            List<Future<Reflections>> scans = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                scans.add(callers.submit(() -> new Reflections(configuration)));
+            }
+            for (Future<Reflections> scan : scans) {
+                assertThat(scan.get().getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+            }
+        } finally {
+            callers.shutdown();
+        }
+    }
 }
@@ -0,0 +1,158 @@
+package org.reflections;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.reflections.TestModel.*;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsReloadTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = create();
+    }
+
+    private static Reflections create() {
+        return new Reflections(configuration());
+    }
+
+    private static ConfigurationBuilder configuration() {
+        return new ConfigurationBuilder().setUrls(Collections.singletonList(ClasspathHelper.forClass(
+                TestModel.class)))
+                                                         .filterInputsBy(TestModelFilter)
+                                                         .setScanners(new SubTypesScanner(false),
+                                                                      new TypeAnnotationsScanner(),
+                                                                      new FieldAnnotationsScanner(),
+                                                                      new MethodAnnotationsScanner(),
+                                                                      new MethodParameterScanner(),
+                                                                      new MethodParameterNamesScanner(),
+                                                                      new MemberUsageScanner())
+                                                         .setTrackSources(true);
+    }
+
+    @Test
+    public void testRemoveAndReloadClass() {
+        Reflections reflections = create();
+        URL         url         = ClasspathHelper.forClass(TestModel.class);
+        String      path        = C5.class.getName().replace('.', '/') + ".class";
+
+        reflections.remove(url, path);
+        assertThat(reflections.getSubTypesOf(C1.class), are(C2.class, C3.class));
+
+        reflections.reload(url, path);
+        assertThat(reflections.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        Reflections reflections = create();
+        Reflections copy        = new Reflections(reflections);
+        URL         url         = ClasspathHelper.forClass(TestModel.class);
+
+        copy.remove(url, C5.class.getName().replace('.', '/') + ".class");
+        reflections.remove(url, C2.class.getName().replace('.', '/') + ".class");
+        assertThat(copy.getSubTypesOf(C1.class), are(C2.class, C3.class));
+        assertThat(reflections.getSubTypesOf(C1.class), are(C3.class, C5.class));
+
+        copy.reload(url, C5.class.getName().replace('.', '/') + ".class");
+        assertThat(copy.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+        assertThat(reflections.getSubTypesOf(C1.class), are(C3.class, C5.class));
+        assertEquals(reflections.getStore().getSources(url.toExternalForm()).size() + 1,
+                     copy.getStore().getSources(url.toExternalForm()).size());
+        assertEquals(reflections.getScanStatistics().getAcceptedFiles() + 1, copy.getScanStatistics().getAcceptedFiles());
+    }
+
+    @Test
+    public void testRemoveAndReloadUrl() {
+        Reflections reflections = create();
+        URL         url         = ClasspathHelper.forClass(TestModel.class);
+
+        reflections.remove(url);
+        assertTrue(reflections.getSubTypesOf(C1.class).isEmpty());
+        assertTrue(reflections.getStore().getSources().isEmpty());
+
+        reflections.reload(url);
+        assertThat(reflections.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+    }
+
+    @Test
+    public void testRemoveAndReloadPartialScans() {
+        URL    url  = ClasspathHelper.forClass(TestModel.class);
+        String path = C5.class.getName().replace('.', '/') + ".class";
+
+        //scanned into a partial store per url, which is merged along with its sources
+        Reflections bounded = new Reflections(configuration().setScanTimeout(1, TimeUnit.MINUTES));
+        assertEquals(create().getStore().getSources(url.toExternalForm()),
+                     bounded.getStore().getSources(url.toExternalForm()));
+        bounded.remove(url, path);
+        assertThat(bounded.getSubTypesOf(C1.class), are(C2.class, C3.class));
+        bounded.remove(url);
+        assertTrue(bounded.getSubTypesOf(C1.class).isEmpty());
+        assertTrue(bounded.getStore().getSources().isEmpty());
+
+        //the cached scan is attributed to the url once
+        File dir = new File(getUserDir(), "target/reload-incremental-scan");
+        for (int i = 0; i < 2; i++) {
+            Reflections cached = new Reflections(configuration().setIncrementalScanDir(dir));
+            assertThat(cached.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+            cached.remove(url);
+            assertTrue(cached.getSubTypesOf(C1.class).isEmpty());
+            assertTrue(cached.getStore().getSources().isEmpty());
+        }
+    }
+
+    @Test
+    public void testMergedEntriesAreNotRemoved() {
+        URL    url  = ClasspathHelper.forClass(TestModel.class);
+        String path = C5.class.getName().replace('.', '/') + ".class";
+
+        //the entries of C5 are contributed by its file, and merged without a source
+        Reflections reflections = create().merge(new Reflections(configuration().setTrackSources(false)));
+        reflections.remove(url, path);
+        assertThat(reflections.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+
+        reflections.remove(url);
+        assertThat(reflections.getSubTypesOf(C1.class), are(C2.class, C3.class, C5.class));
+        assertTrue(reflections.getStore().getSources().isEmpty());
+    }
+
+    @Test
+    public void testSourcesOfAllMutators() {
+        URL         url         = ClasspathHelper.forClass(TestModel.class);
+        String      path        = C5.class.getName().replace('.', '/') + ".class";
+        Reflections reflections = new Reflections(configuration().setScanners(new MutatorsScanner()));
+        Multimap<String, String> index = reflections.getStore().get(index(MutatorsScanner.class));
+        assertEquals(4, index.keySet().stream().filter(key -> key.startsWith(C5.class.getName() + "#")).count());
+
+        reflections.remove(url, path);
+        assertEquals(0, index.keySet().stream().filter(key -> key.startsWith(C5.class.getName() + "#")).count());
+        assertTrue(index.containsKey(C3.class.getName() + "#putAll"));
+    }
+
+    /**
+     * puts each class name through each of the store mutators
+     */
+    public static class MutatorsScanner extends AbstractScanner {
+        @Override
+        public void scan(Object cls) {
+            String className = getMetadataAdapter().getClassName(cls);
+            getStore().putAll(className + "#putAll", Collections.singleton(className));
+            getStore().putAll(ImmutableMultimap.of(className + "#putAllMultimap", className));
+            getStore().replaceValues(className + "#replaceValues", Collections.singleton(className));
+            getStore().get(className + "#get").add(className);
+        }
+    }
+}
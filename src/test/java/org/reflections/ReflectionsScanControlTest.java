@@ -0,0 +1,163 @@
+package org.reflections;
+
+import org.junit.Test;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.util.CancellationToken;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+
+/** */
+public class ReflectionsScanControlTest {
+
+    private static final URL url = ClasspathHelper.forClass(TestModel.class);
+
+    @Test
+    public void testScanListener() {
+        Set<URL>      started  = ConcurrentHashMap.newKeySet();
+        Set<URL>      finished = ConcurrentHashMap.newKeySet();
+        AtomicInteger files    = new AtomicInteger();
+        AtomicLong    bytes    = new AtomicLong();
+
+        Reflections reflections = new Reflections(configuration().setScanListener(new ScanListener() {
+            @Override
+            public void urlStarted(URL url) {
+                started.add(url);
+            }
+
+            @Override
+            public void urlFinished(URL url) {
+                finished.add(url);
+            }
+
+            @Override
+            public void fileScanned(URL url, String relativePath, long bytes1) {
+                files.incrementAndGet();
+                bytes.addAndGet(bytes1);
+            }
+        }));
+
+        assertEquals(Collections.singleton(url), started);
+        assertEquals(Collections.singleton(url), finished);
+        assertTrue(files.get() > 0);
+        assertTrue(bytes.get() > 0);
+        assertTrue(reflections.getSkippedUrls().isEmpty());
+        assertTrue(reflections.getPartialUrls().isEmpty());
+        assertFalse(reflections.getSubTypesOf(C1.class).isEmpty());
+    }
+
+    @Test
+    public void testCancelledBeforeScan() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        Reflections reflections = new Reflections(configuration().setCancellationToken(token));
+        assertEquals(Collections.singleton(url), reflections.getSkippedUrls());
+        assertTrue(reflections.getSubTypesOf(C1.class).isEmpty());
+    }
+
+    @Test
+    public void testCancelledWhileScanning() {
+        CancellationToken token = new CancellationToken();
+
+        Reflections reflections = new Reflections(configuration().setCancellationToken(token)
+                                                                 .setScanListener(new ScanListener() {
+                                                                     @Override
+                                                                     public void fileScanned(URL url,
+                                                                                             String relativePath,
+                                                                                             long bytes) {
+                                                                         token.cancel();
+                                                                     }
+                                                                 }));
+        assertEquals(Collections.singleton(url), reflections.getPartialUrls());
+        assertTrue(reflections.getSkippedUrls().isEmpty());
+    }
+
+    @Test
+    public void testScanTimeout() {
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            long start = System.currentTimeMillis();
+            Reflections reflections = new Reflections(configuration().setScanners(new SubTypesScanner() {
+                                                                         @Override
+                                                                         public void scan(Object cls) {
+                                                                             //a read blocked regardless of interrupts
+                                                                             while (blocked.getCount() > 0) {
+                                                                                 try {
+                                                                                     blocked.await();
+                                                                                 } catch (InterruptedException e) {
+                                                                                     //ignore
+                                                                                 }
+                                                                             }
+                                                                         }
+                                                                     })
+                                                                     .setScanTimeout(200, TimeUnit.MILLISECONDS)
+                                                                     .useParallelExecutor(1));
+            assertTrue(System.currentTimeMillis() - start < 5000);
+            //the url was started, then abandoned
+            assertEquals(Collections.singleton(url), reflections.getPartialUrls());
+            assertTrue(reflections.getSkippedUrls().isEmpty());
+        } finally {
+            blocked.countDown();
+        }
+    }
+
+    @Test
+    public void testAbandonedUrlRecordsNoSources() throws InterruptedException {
+        CancellationToken token    = new CancellationToken();
+        CountDownLatch    blocked  = new CountDownLatch(1);
+        CountDownLatch    finished = new CountDownLatch(1);
+        Reflections reflections = new Reflections(configuration().setTrackSources(true)
+                                                                 .setCancellationToken(token)
+                                                                 .setScanListener(new ScanListener() {
+                                                                     @Override
+                                                                     public void urlFinished(URL url) {
+                                                                         finished.countDown();
+                                                                     }
+
+                                                                     @Override
+                                                                     public void fileScanned(URL url,
+                                                                                             String relativePath,
+                                                                                             long bytes) {
+                                                                         //cancel once a scanned file contributed entries, and block until abandoned
+                                                                         if (relativePath.startsWith("org/reflections/TestModel$")) {
+                                                                             token.cancel();
+                                                                             while (blocked.getCount() > 0) {
+                                                                                 try {
+                                                                                     blocked.await();
+                                                                                 } catch (InterruptedException e) {
+                                                                                     //ignore
+                                                                                 }
+                                                                             }
+                                                                         }
+                                                                     }
+                                                                 })
+                                                                 .useParallelExecutor(1));
+        blocked.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+        //the url is partial, and the file scanned before abandoning it was not merged, and neither were its sources
+        assertEquals(Collections.singleton(url), reflections.getPartialUrls());
+        assertTrue(reflections.getSkippedUrls().isEmpty());
+        assertTrue(reflections.getSubTypesOf(C1.class).isEmpty());
+        assertTrue(reflections.getStore().getSources().isEmpty());
+    }
+
+    private static ConfigurationBuilder configuration() {
+        return new ConfigurationBuilder().setUrls(url)
+                                         .filterInputsBy(TestModelFilter)
+                                         .setScanners(new SubTypesScanner(false));
+    }
+}
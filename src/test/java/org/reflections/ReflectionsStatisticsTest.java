@@ -0,0 +1,86 @@
+package org.reflections;
+
+import org.junit.Test;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+
+/** */
+public class ReflectionsStatisticsTest {
+
+    @Test
+    public void testScanStatistics() {
+        URL url = ClasspathHelper.forClass(TestModel.class);
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(url)
+                                                                            .filterInputsBy(TestModelFilter)
+                                                                            .setScanners(new SubTypesScanner(false),
+                                                                                         new TypeAnnotationsScanner(),
+                                                                                         new FailingScanner()));
+
+        ScanStatistics statistics = reflections.getScanStatistics();
+        assertTrue(statistics.getAcceptedFiles() > 0);
+        assertTrue(statistics.getRejectedFiles() > 0);
+        assertTrue(statistics.getBytesRead() > 0);
+        assertTrue(statistics.getParseNanos() > 0);
+        assertTrue(statistics.getUrlNanos().containsKey(url));
+        assertTrue(statistics.getScannerNanos().containsKey(SubTypesScanner.class));
+        assertTrue(statistics.getScannerNanos().containsKey(TypeAnnotationsScanner.class));
+        assertEquals(statistics.getAcceptedFiles(), (long) statistics.getScannerExceptions().get(FailingScanner.class));
+        assertNull(statistics.getScannerExceptions().get(SubTypesScanner.class));
+    }
+
+    @Test
+    public void testOnlyScannedFilesAreCounted() {
+        ExecutorService parsingService = Executors.newSingleThreadExecutor();
+        try {
+            for (boolean pipelined : new boolean[] {false, true}) {
+                URL          url     = ClasspathHelper.forClass(TestModel.class);
+                Set<String>  scanned = ConcurrentHashMap.newKeySet();
+                //the xml resources are accepted by the inputs filter, but not by the scanner
+                Reflections reflections = new Reflections(new ConfigurationBuilder() {
+                    @Override
+                    public ExecutorService getParsingExecutorService() {
+                        return pipelined ? parsingService : null;
+                    }
+                }.setUrls(url)
+                 .filterInputsBy(new FilterBuilder().include("org.reflections.TestModel\\$.*")
+                                                    .include("META-INF.reflections.*"))
+                 .setScanners(new SubTypesScanner(false))
+                 .setScanListener(new ScanListener() {
+                     @Override
+                     public void fileScanned(URL url, String relativePath, long bytes) {
+                         scanned.add(relativePath);
+                     }
+                 }));
+
+                ScanStatistics statistics = reflections.getScanStatistics();
+                assertFalse(scanned.isEmpty());
+                for (String path : scanned) {
+                    assertTrue(path, path.endsWith(".class"));
+                }
+                assertEquals((long) scanned.size(), (long) statistics.getUrlFiles().get(url));
+                assertTrue(statistics.getAcceptedFiles() > scanned.size());
+            }
+        } finally {
+            parsingService.shutdown();
+        }
+    }
+
+    public static class FailingScanner extends SubTypesScanner {
+        @Override
+        public void scan(Object cls) {
+            throw new IllegalStateException("failing scanner");
+        }
+    }
+}
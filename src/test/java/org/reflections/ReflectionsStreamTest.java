@@ -0,0 +1,78 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsStreamTest {
+
+    static Reflections reflections;
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                .filterInputsBy(TestModelFilter)
+                                                                .setScanners(new SubTypesScanner(false),
+                                                                             new TypeAnnotationsScanner(),
+                                                                             new FieldAnnotationsScanner(),
+                                                                             new MethodAnnotationsScanner()));
+    }
+
+    @Test
+    public void testStreamsMatchQueries() {
+        assertEquals(reflections.getSubTypesOf(I1.class),
+                     reflections.streamSubTypesOf(I1.class).collect(Collectors.toSet()));
+        assertEquals(reflections.getTypesAnnotatedWith(MAI1.class),
+                     reflections.streamTypesAnnotatedWith(MAI1.class).collect(Collectors.toSet()));
+        assertEquals(reflections.getTypesAnnotatedWith(AC2.class),
+                     reflections.streamTypesAnnotatedWith(AC2.class).collect(Collectors.toSet()));
+        assertEquals(reflections.getMethodsAnnotatedWith(AM1.class),
+                     reflections.streamMethodsAnnotatedWith(AM1.class).collect(Collectors.toSet()));
+        assertEquals(reflections.getConstructorsAnnotatedWith(AM1.class),
+                     reflections.streamConstructorsAnnotatedWith(AM1.class).collect(Collectors.toSet()));
+        assertEquals(reflections.getFieldsAnnotatedWith(AF1.class),
+                     reflections.streamFieldsAnnotatedWith(AF1.class).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testStreamsAreDistinct() {
+        assertEquals(reflections.streamSubTypesOf(I1.class).count(),
+                     reflections.streamSubTypesOf(I1.class).distinct().count());
+        assertEquals(reflections.streamTypesAnnotatedWith(MAI1.class).count(),
+                     reflections.streamTypesAnnotatedWith(MAI1.class).distinct().count());
+    }
+
+    @Test
+    public void testParallelStream() {
+        assertEquals(reflections.getSubTypesOf(I1.class),
+                     reflections.streamSubTypesOf(I1.class).parallel().collect(Collectors.toSet()));
+        assertEquals(reflections.getTypesAnnotatedWith(AI1.class),
+                     reflections.streamTypesAnnotatedWith(AI1.class).parallel().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testUnresolvedNamesAreSkipped() {
+        String type = "org.reflections.unloadable.Type";
+        reflections.getStore().getOrCreate(index(SubTypesScanner.class)).put(C5.class.getName(), type);
+        try {
+            Optional<Class<? extends I1>> first = reflections.streamSubTypesOf(I1.class).findFirst();
+            assertTrue(first.isPresent());
+            assertTrue(reflections.getStore().streamAll(index(SubTypesScanner.class), I1.class.getName())
+                                  .anyMatch(type::equals));
+            assertFalse(reflections.streamSubTypesOf(I1.class).anyMatch(c -> c.getName().equals(type)));
+        } finally {
+            reflections.getStore().get(index(SubTypesScanner.class)).remove(C5.class.getName(), type);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.reflections;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.*;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+import static org.reflections.TestModel.*;
+
+/** */
+public class ReflectionsVirtualThreadsTest extends ReflectionsTest {
+
+    private static ExecutorService parsingService;
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(pipelined().setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                                                 .filterInputsBy(TestModelFilter)
+                                                 .setScanners(new SubTypesScanner(false),
+                                                              new TypeAnnotationsScanner(),
+                                                              new FieldAnnotationsScanner(),
+                                                              new MethodAnnotationsScanner(),
+                                                              new MethodParameterScanner(),
+                                                              new MethodParameterNamesScanner(),
+                                                              new MemberUsageScanner())
+                                                 .useVirtualThreads(2));
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        parsingService.shutdown();
+    }
+
+    @Test
+    public void testCallerParsingServiceNotShutdown() {
+        assertFalse("caller supplied parsing executor service should not be shut down", parsingService.isShutdown());
+    }
+
+    /**
+     * a configuration which parses on a separate executor service even when virtual threads are not supported by the runtime
+     */
+    private static ConfigurationBuilder pipelined() {
+        parsingService = Executors.newFixedThreadPool(2);
+        return new ConfigurationBuilder() {
+            @Override
+            public ExecutorService getParsingExecutorService() {
+                return parsingService;
+            }
+        };
+    }
+}
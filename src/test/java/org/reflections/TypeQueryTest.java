@@ -0,0 +1,126 @@
+package org.reflections;
+
+import com.google.common.collect.Sets;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.ResourcesScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+import static org.reflections.TypeQuery.*;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class TypeQueryTest {
+
+    static Reflections reflections;
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                .filterInputsBy(TestModelFilter)
+                                                                .setScanners(new SubTypesScanner(false),
+                                                                             new TypeAnnotationsScanner(),
+                                                                             new MethodAnnotationsScanner(),
+                                                                             new ResourcesScanner()));
+    }
+
+    @Test
+    public void testAnd() {
+        assertEquals(Sets.intersection(reflections.getSubTypesOf(I1.class), reflections.getTypesAnnotatedWith(AC2.class)),
+                     reflections.getTypes(subTypesOf(I1.class).and(annotatedWith(AC2.class))));
+        assertEquals(Sets.newHashSet(C2.class, C3.class, C5.class),
+                     reflections.getTypes(subTypesOf(I1.class).and(annotatedWith(AC2.class))));
+    }
+
+    @Test
+    public void testAndNot() {
+        assertEquals(Sets.difference(reflections.getSubTypesOf(C1.class), reflections.getTypesAnnotatedWith(AC2.class)),
+                     reflections.getTypes(subTypesOf(C1.class).andNot(annotatedWith(AC2.class))));
+        assertEquals(Sets.newHashSet(C2.class.getName(), C3.class.getName()),
+                     reflections.getTypeNames(subTypesOf(C1.class).andNot(subTypesOf(C3.class))
+                                                                  .andNot(subTypesOf(C2.class).or(subTypesOf(I3.class)))
+                                                                  .andNot(annotatedWith(AI1.class).and(subTypesOf(C2.class)))
+                                                                  .and(annotatedWith(AC2.class))
+                                                                  .andNot(inPackage("com.acme"))));
+    }
+
+    @Test
+    public void testOr() {
+        assertEquals(Sets.union(reflections.getSubTypesOf(C3.class), reflections.getSubTypesOf(C2.class)),
+                     reflections.getTypes(subTypesOf(C3.class).or(subTypesOf(C2.class))));
+    }
+
+    @Test
+    public void testInPackage() {
+        assertEquals(reflections.getSubTypesOf(I1.class),
+                     reflections.getTypes(subTypesOf(I1.class).and(inPackage("org.reflections"))));
+        assertTrue(reflections.getTypes(subTypesOf(I1.class).and(inPackage("org.reflections.util"))).isEmpty());
+        assertTrue(reflections.getTypeNames(inPackage("org.reflections")).contains(C4.class.getName()));
+        assertFalse(reflections.getTypeNames(inPackage("org.reflections")).contains(Object.class.getName()));
+    }
+
+    @Test
+    public void testHasMethodAnnotatedWith() {
+        assertEquals(Collections.singleton(C4.class), reflections.getTypes(hasMethodAnnotatedWith(AM1.class)));
+        assertTrue(reflections.getTypes(hasMethodAnnotatedWith(AM1.class).and(subTypesOf(I1.class))).isEmpty());
+    }
+
+    @Test
+    public void testHasResource() {
+        Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                            .filterInputsBy(TestModelFilter)
+                                                                            .setScanners(new SubTypesScanner(false),
+                                                                                         new ResourcesScanner()));
+        assertTrue(reflections.getTypes(subTypesOf(I1.class).and(hasResource(Pattern.compile("plugin\\.properties"))))
+                              .isEmpty());
+
+        reflections.getStore()
+                   .getOrCreate(index(ResourcesScanner.class))
+                   .put("plugin.properties", "org/reflections/plugin.properties");
+        assertEquals(reflections.getSubTypesOf(I1.class),
+                     reflections.getTypes(subTypesOf(I1.class).and(hasResource(Pattern.compile("plugin\\.properties")))));
+    }
+
+    @Test
+    public void testAndEvaluatesSmallestEstimateFirst() {
+        AtomicInteger evaluated = new AtomicInteger();
+        TypeQuery large = new TypeQuery() {
+            @Override
+            Set<String> evaluate(Store store) {
+                evaluated.incrementAndGet();
+                return Sets.newHashSet(C1.class.getName());
+            }
+
+            @Override
+            int estimate(Store store) {
+                return 1000;
+            }
+        };
+
+        //the empty sub types of C5 are evaluated first, so that the larger operand is not evaluated at all
+        assertTrue(reflections.getTypeNames(large.and(subTypesOf(C5.class))).isEmpty());
+        assertEquals(0, evaluated.get());
+        assertEquals(Collections.singleton(C1.class.getName()), reflections.getTypeNames(large.and(inPackage("org.reflections"))));
+        assertEquals(1, evaluated.get());
+    }
+
+    @Test(expected = ReflectionsException.class)
+    public void testScannerNotConfigured() {
+        new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                  .filterInputsBy(TestModelFilter)
+                                                  .setScanners(new SubTypesScanner(false)))
+                .getTypes(subTypesOf(I1.class).and(annotatedWith(AC2.class)));
+    }
+}
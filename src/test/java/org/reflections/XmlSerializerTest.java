@@ -0,0 +1,84 @@
+package org.reflections;
+
+import com.google.common.io.Files;
+import org.junit.Test;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/** */
+public class XmlSerializerTest {
+
+    static final String SPECIAL_KEY   = "a<b>&c\"d'e\\f";
+    static final String SPECIAL_VALUE = "\u00fcn\u00efc\u00f8d\u00e9 \uD83D\uDE00 x\ty\nz";
+
+    private final XmlSerializer serializer = new XmlSerializer();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Reflections reflections = reflections();
+        assertStoreEquals(reflections.getStore(), read(serializer, serializer.toString(reflections)).getStore());
+
+        File file = serializer.save(reflections, ReflectionsTest.getUserDir() + "/target/serializers/reflections.xml");
+        try (InputStream inputStream = new FileInputStream(file)) {
+            assertStoreEquals(reflections.getStore(), serializer.read(inputStream).getStore());
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        Reflections empty = read(serializer, serializer.toString(new Reflections()));
+        assertTrue(empty.getStore().keySet().isEmpty());
+
+        Reflections emptyIndex = new Reflections();
+        emptyIndex.getStore().getOrCreate("SubTypesScanner");
+        assertTrue(read(serializer, serializer.toString(emptyIndex)).getStore().keySet().isEmpty());
+    }
+
+    @Test
+    public void testSpecialCharacters() {
+        Reflections reflections = new Reflections();
+        reflections.getStore().getOrCreate("Special").put(SPECIAL_KEY, SPECIAL_VALUE);
+        String xml = serializer.toString(reflections);
+        assertTrue(xml.contains("a&lt;b&gt;&amp;c"));
+
+        Reflections read = read(serializer, xml);
+        assertEquals(SPECIAL_VALUE, read.getStore().get("Special").get(SPECIAL_KEY).iterator().next());
+    }
+
+    @Test
+    public void testGolden() throws IOException {
+        String golden = Files.asCharSource(new File(ReflectionsTest.getUserDir(), "src/test/golden/golden.xml"), StandardCharsets.UTF_8).read();
+        assertEquals(golden, serializer.toString(reflections()));
+        assertStoreEquals(reflections().getStore(), read(serializer, golden).getStore());
+    }
+
+    static Reflections reflections() {
+        Reflections reflections = new Reflections();
+        Store       store       = reflections.getStore();
+        store.getOrCreate("SubTypesScanner").put("java.lang.Object", "org.reflections.TestModel$C1");
+        store.getOrCreate("SubTypesScanner").put("org.reflections.TestModel$I1", "org.reflections.TestModel$I2");
+        store.getOrCreate("TypeAnnotationsScanner").put("org.reflections.TestModel$AC1", "org.reflections.TestModel$C1");
+        store.getOrCreate("Special").put(SPECIAL_KEY, SPECIAL_VALUE);
+        return reflections;
+    }
+
+    static Reflections read(Serializer serializer, String serialized) {
+        return serializer.read(new ByteArrayInputStream(serialized.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static void assertStoreEquals(Store expected, Store actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String index : expected.keySet()) {
+            assertEquals(expected.get(index), actual.get(index));
+        }
+    }
+}
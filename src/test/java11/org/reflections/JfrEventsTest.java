@@ -0,0 +1,68 @@
+package org.reflections;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.reflections.ReflectionsTest.TestModelFilter;
+import static org.reflections.TestModel.*;
+
+/** */
+public class JfrEventsTest {
+
+    @Test
+    public void testEvents() throws IOException {
+        List<RecordedEvent> events = new ArrayList<>();
+        Path                file   = Files.createTempFile("reflections", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.reflections.UrlScan");
+            recording.enable("org.reflections.Collect");
+            recording.enable("org.reflections.Query");
+            recording.start();
+
+            Reflections reflections = new Reflections(new ConfigurationBuilder().setUrls(ClasspathHelper.forClass(TestModel.class))
+                                                                                .filterInputsBy(TestModelFilter)
+                                                                                .setScanners(new SubTypesScanner(false)));
+            reflections.getSubTypesOf(C1.class);
+            Reflections.collect("META-INF/reflections", name -> name.equals("resource1-reflections.xml"));
+
+            recording.stop();
+            recording.dump(file);
+            events.addAll(RecordingFile.readAllEvents(file));
+        } finally {
+            Files.delete(file);
+        }
+
+        RecordedEvent urlScan = event(events, "org.reflections.UrlScan");
+        assertTrue(urlScan.getLong("files") > 0);
+        assertTrue(urlScan.getLong("bytes") > 0);
+
+        RecordedEvent query = event(events, "org.reflections.Query");
+        assertEquals("getSubTypesOf", query.getString("method"));
+        assertEquals(3, query.getInt("resultSize"));
+
+        assertNotNull(event(events, "org.reflections.Collect"));
+    }
+
+    private static RecordedEvent event(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        fail("no event " + name);
+        return null;
+    }
+}